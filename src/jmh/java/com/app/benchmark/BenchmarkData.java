@@ -0,0 +1,111 @@
+package com.app.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.app.model.Event;
+import com.app.model.Figure;
+import com.app.model.FigureType;
+import com.app.model.Importance;
+import com.app.model.User;
+import com.app.model.World;
+import com.app.service.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Shared fixtures for the benchmarks: detached entities, no database.
+ */
+final class BenchmarkData {
+
+	static final String JWT_SECRET = "benchmark-secret-key-for-jwt-service-must-be-at-least-32-characters-long";
+	static final String EMAIL = "bench@example.com";
+	static final int EVENTS_PER_FIGURE = 3;
+
+	private BenchmarkData() {
+	}
+
+	static JwtService jwtService() {
+		JwtService jwtService = new JwtService();
+		ReflectionTestUtils.setField(jwtService, "jwtSecret", JWT_SECRET);
+		return jwtService;
+	}
+
+	/**
+	 * Configured like Spring Boot's ObjectMapper (ISO dates, java.time support).
+	 */
+	static ObjectMapper objectMapper() {
+		return objectMapper("json");
+	}
+
+	/**
+	 * @param format json, cbor or smile, configured like WebConfig's converters
+	 */
+	static ObjectMapper objectMapper(String format) {
+		Jackson2ObjectMapperBuilder builder = switch (format) {
+			case "json" -> Jackson2ObjectMapperBuilder.json();
+			case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+			case "smile" -> Jackson2ObjectMapperBuilder.smile();
+			default -> throw new IllegalArgumentException("Unknown format " + format);
+		};
+		return builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+	}
+
+	static User user() {
+		User user = new User();
+		user.setId(1L);
+		user.setEmail(EMAIL);
+		return user;
+	}
+
+	static World world(User user) {
+		World world = new World("Benchmark world", 0, 5000, "A world with many entities", user);
+		world.setId(1L);
+		stamp(world);
+		return world;
+	}
+
+	static List<Event> events(World world, int count) {
+		Importance[] importances = Importance.values();
+		List<Event> events = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Event event = new Event("Event " + i, i % 5000, "Description of event " + i, world);
+			event.setId((long) i + 1);
+			event.setImportance(importances[i % importances.length]);
+			stamp(event);
+			events.add(event);
+		}
+		return events;
+	}
+
+	/**
+	 * Figures linked to EVENTS_PER_FIGURE of the given events each.
+	 */
+	static List<Figure> figures(World world, List<Event> events, int count) {
+		FigureType[] types = FigureType.values();
+		List<Figure> figures = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Figure figure = new Figure("Figure " + i, types[i % types.length], "Description of figure " + i, world);
+			figure.setId((long) i + 1);
+			HashSet<Event> linked = new HashSet<>();
+			for (int j = 0; j < EVENTS_PER_FIGURE; j++) {
+				linked.add(events.get((i + j) % events.size()));
+			}
+			figure.setEvents(linked);
+			stamp(figure);
+			figures.add(figure);
+		}
+		return figures;
+	}
+
+	private static void stamp(com.app.model.BaseEntity entity) {
+		LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+		entity.setCreatedAt(now);
+		entity.setUpdatedAt(now);
+	}
+}
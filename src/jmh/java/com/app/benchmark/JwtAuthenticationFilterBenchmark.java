@@ -0,0 +1,63 @@
+package com.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.app.filter.JwtAuthenticationFilter;
+import com.app.service.JwtService;
+
+/**
+ * JwtAuthenticationFilter end to end for one request with a valid token. The
+ * user lookup is an in-memory stub (a cache hit in production).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+	private JwtAuthenticationFilter filter;
+	private String authorization;
+
+	@Setup
+	public void setUp() {
+		JwtService jwtService = BenchmarkData.jwtService();
+		UserDetails userDetails = User.builder()
+				.username(BenchmarkData.EMAIL)
+				.password("")
+				.authorities("ROLE_USER")
+				.build();
+		filter = new JwtAuthenticationFilter(jwtService, email -> userDetails);
+		authorization = "Bearer " + jwtService.generateToken(1L, BenchmarkData.EMAIL);
+	}
+
+	@Benchmark
+	public Object authenticate() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/worlds");
+		request.addHeader("Authorization", authorization);
+		try {
+			filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+			return SecurityContextHolder.getContext().getAuthentication();
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.app.service.JwtService;
+
+/**
+ * JwtService: every authenticated request validates a token and extracts the
+ * email; login and registration generate one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+	private JwtService jwtService;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtService = BenchmarkData.jwtService();
+		token = jwtService.generateToken(1L, BenchmarkData.EMAIL);
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtService.generateToken(1L, BenchmarkData.EMAIL);
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtService.validateToken(token);
+	}
+
+	@Benchmark
+	public String extractEmail() {
+		return jwtService.extractEmail(token);
+	}
+}
@@ -0,0 +1,143 @@
+package com.app.benchmark;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.app.cache.CacheRegistry;
+import com.app.dto.event.EventResponse;
+import com.app.dto.figure.FigurePageResponse;
+import com.app.dto.figure.FigureResponse;
+import com.app.model.Event;
+import com.app.model.Figure;
+import com.app.model.User;
+import com.app.model.World;
+import com.app.repository.EventRepository;
+import com.app.repository.FigureRespository;
+import com.app.repository.FigureRow;
+import com.app.repository.WorldRepository;
+import com.app.service.EventService;
+import com.app.service.FigureService;
+
+/**
+ * DTO mapping in EventService and FigureService list reads, for worlds with
+ * 100 and 10k entities. Repositories return prepared projection rows, so only
+ * the ownership check and the mapping (splitting figures' event ids) are
+ * measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+	private static final int PAGE_SIZE = 20;
+
+	@Param({ "100", "10000" })
+	public int size;
+
+	private User user;
+	private World world;
+	private EventService eventService;
+	private FigureService figureService;
+	private List<FigureResponse> figurePage;
+
+	@Setup
+	public void setUp() {
+		user = BenchmarkData.user();
+		world = BenchmarkData.world(user);
+		List<Event> events = BenchmarkData.events(world, size);
+		List<Figure> figures = BenchmarkData.figures(world, events, size);
+		Pageable firstPage = PageRequest.of(0, PAGE_SIZE);
+
+		List<EventResponse> eventRows = events.stream().map(MappingBenchmark::eventRow).toList();
+		List<FigureRow> figureRows = figures.stream().map(MappingBenchmark::figureRow).toList();
+
+		WorldRepository worldRepository = mock(WorldRepository.class);
+		when(worldRepository.findByIdAndUser(world.getId(), user)).thenReturn(Optional.of(world));
+		EventRepository eventRepository = mock(EventRepository.class);
+		when(eventRepository.findResponsesByWorldId(world.getId())).thenReturn(eventRows);
+		FigureRespository figureRepository = mock(FigureRespository.class);
+		when(figureRepository.findRowsByWorldId(world.getId())).thenReturn(figureRows);
+		when(figureRepository.findRowsByWorldId(any(Long.class), any(Pageable.class)))
+				.thenReturn(new PageImpl<>(figureRows.subList(0, PAGE_SIZE), firstPage, figureRows.size()));
+		CacheRegistry cacheRegistry = new CacheRegistry(false, 300, 0, 0, 0, null);
+
+		eventService = new EventService();
+		ReflectionTestUtils.setField(eventService, "eventRepository", eventRepository);
+		ReflectionTestUtils.setField(eventService, "worldRepository", worldRepository);
+		ReflectionTestUtils.setField(eventService, "cacheRegistry", cacheRegistry);
+
+		figureService = new FigureService();
+		ReflectionTestUtils.setField(figureService, "figureRepository", figureRepository);
+		ReflectionTestUtils.setField(figureService, "worldRepository", worldRepository);
+		ReflectionTestUtils.setField(figureService, "cacheRegistry", cacheRegistry);
+
+		figurePage = figureService.getFiguresByWorldId(user, world.getId(), null).subList(0, PAGE_SIZE);
+	}
+
+	@Benchmark
+	public List<EventResponse> eventList() {
+		return eventService.getEventsByWorldId(user, world.getId());
+	}
+
+	@Benchmark
+	public List<FigureResponse> figureList() {
+		return figureService.getFiguresByWorldId(user, world.getId(), null);
+	}
+
+	/**
+	 * First page through the service: ownership check, mapping and page DTO.
+	 */
+	@Benchmark
+	public FigurePageResponse figurePage() {
+		return figureService.getFiguresByWorldIdPaginated(user, world.getId(), 0, PAGE_SIZE, null);
+	}
+
+	/**
+	 * FigurePageResponse construction alone, from already mapped figures.
+	 */
+	@Benchmark
+	public FigurePageResponse figurePageResponse() {
+		return new FigurePageResponse(figurePage, size, 0, PAGE_SIZE);
+	}
+
+	private static EventResponse eventRow(Event event) {
+		return new EventResponse(event.getId(), event.getTitle(), event.getYear(), event.getDescription(),
+				event.getImportance(), event.getWorld().getId(), event.getCreatedAt(), event.getUpdatedAt());
+	}
+
+	private static FigureRow figureRow(Figure figure) {
+		String eventIds = figure.getEvents().stream()
+				.map(Event::getId)
+				.sorted()
+				.map(String::valueOf)
+				.collect(Collectors.joining(","));
+		return new FigureRow(figure.getId(), figure.getName(), figure.getType(), figure.getDescription(),
+				figure.getWorld().getId(), figure.getCreatedAt(), figure.getUpdatedAt(),
+				eventIds.isEmpty() ? null : eventIds);
+	}
+}
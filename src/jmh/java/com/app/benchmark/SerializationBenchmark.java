@@ -0,0 +1,91 @@
+package com.app.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.app.dto.event.EventResponse;
+import com.app.dto.figure.FigureResponse;
+import com.app.model.Event;
+import com.app.model.Figure;
+import com.app.model.World;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Jackson serialization of the list responses of GET /api/events and
+ * GET /api/figures in each negotiable format, and parsing them back as a
+ * client would. Payload sizes are printed once per trial ("# Payload").
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+	@Param({ "100", "10000" })
+	public int size;
+
+	@Param({ "json", "cbor", "smile" })
+	public String format;
+
+	private ObjectMapper objectMapper;
+	private List<EventResponse> events;
+	private List<FigureResponse> figures;
+	private byte[] eventsPayload;
+
+	@Setup
+	public void setUp() throws JsonProcessingException {
+		objectMapper = BenchmarkData.objectMapper(format);
+		World world = BenchmarkData.world(BenchmarkData.user());
+		List<Event> eventEntities = BenchmarkData.events(world, size);
+		events = eventEntities.stream()
+				.map(e -> new EventResponse(e.getId(), e.getTitle(), e.getYear(), e.getDescription(),
+						e.getImportance(), world.getId(), e.getCreatedAt(), e.getUpdatedAt()))
+				.collect(Collectors.toList());
+		List<Figure> figureEntities = BenchmarkData.figures(world, eventEntities, size);
+		figures = figureEntities.stream()
+				.map(f -> new FigureResponse(f.getId(), f.getName(), f.getType(), f.getDescription(), world.getId(),
+						f.getEvents().stream().map(Event::getId).collect(Collectors.toList()), f.getCreatedAt(),
+						f.getUpdatedAt()))
+				.collect(Collectors.toList());
+
+		eventsPayload = events();
+		System.out.printf("%n# Payload %s, %d items: events %d bytes, figures %d bytes%n", format, size,
+				eventsPayload.length, figures().length);
+	}
+
+	@Benchmark
+	public byte[] events() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(events);
+	}
+
+	@Benchmark
+	public byte[] figures() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(figures);
+	}
+
+	/**
+	 * Client side: parsing the events payload into a tree.
+	 */
+	@Benchmark
+	public JsonNode parseEvents() throws IOException {
+		return objectMapper.readTree(eventsPayload);
+	}
+}
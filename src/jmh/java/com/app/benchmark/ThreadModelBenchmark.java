@@ -0,0 +1,149 @@
+package com.app.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import com.app.service.JwtService;
+import com.zaxxer.hikari.HikariDataSource;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Platform threads (a fixed pool the size of Tomcat's default
+ * server.tomcat.threads.max) against one virtual thread per request, for a
+ * burst of concurrent requests that each validate a JWT and run one query.
+ *
+ * Every statement first sleeps latencyMs (injected in a datasource-proxy
+ * listener, like a remote database). With a small connection pool both models
+ * wait for connections; once the pool is larger than the platform thread
+ * count, only virtual threads can use it. The virtual variant needs Java 21:
+ * mvn -Pbenchmarks,java21 verify -Djmh.include=ThreadModelBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThreadModelBenchmark {
+
+	private static final int TOMCAT_MAX_THREADS = 200;
+	private static final int EVENTS = 1000;
+
+	@Param({ "platform", "virtual" })
+	public String threads;
+
+	@Param({ "10", "400" })
+	public int poolSize;
+
+	@Param({ "2", "20" })
+	public int latencyMs;
+
+	@Param({ "1000" })
+	public int requests;
+
+	private HikariDataSource pool;
+	private DataSource dataSource;
+	private ExecutorService platformExecutor;
+	private Executor executor;
+	private JwtService jwtService;
+	private String token;
+
+	@Setup
+	public void setUp() throws SQLException {
+		pool = new HikariDataSource();
+		pool.setJdbcUrl("jdbc:h2:mem:thread_model;DB_CLOSE_DELAY=-1");
+		pool.setMaximumPoolSize(poolSize);
+		pool.setMinimumIdle(poolSize);
+		try (Connection connection = pool.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE IF NOT EXISTS events (id BIGINT PRIMARY KEY, title VARCHAR(255))");
+			statement.execute("DELETE FROM events");
+			statement.execute("INSERT INTO events SELECT x, 'Event ' || x FROM SYSTEM_RANGE(1, " + EVENTS + ")");
+		}
+		// Hikari opens the idle connections in the background; don't measure that
+		while (pool.getHikariPoolMXBean().getTotalConnections() < poolSize) {
+			sleep(10);
+		}
+		dataSource = ProxyDataSourceBuilder.create(pool)
+				.beforeQuery((execution, queries) -> sleep(latencyMs))
+				.build();
+
+		if ("virtual".equals(threads)) {
+			// Throws UnsupportedOperationException before Java 21
+			executor = new VirtualThreadTaskExecutor("request-");
+		} else {
+			platformExecutor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+			executor = platformExecutor;
+		}
+		jwtService = BenchmarkData.jwtService();
+		token = jwtService.generateToken(1L, BenchmarkData.EMAIL);
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (platformExecutor != null) {
+			platformExecutor.shutdownNow();
+		}
+		pool.close();
+	}
+
+	/**
+	 * Time until all requests of one burst have finished.
+	 */
+	@Benchmark
+	public int burst() {
+		CompletableFuture<?>[] responses = new CompletableFuture<?>[requests];
+		for (int i = 0; i < requests; i++) {
+			responses[i] = CompletableFuture.supplyAsync(this::handleRequest, executor);
+		}
+		CompletableFuture.allOf(responses).join();
+		return responses.length;
+	}
+
+	private String handleRequest() {
+		String email = jwtService.extractEmail(token);
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement statement = connection.prepareStatement("SELECT title FROM events WHERE id = ?")) {
+			statement.setLong(1, ThreadLocalRandom.current().nextLong(1, EVENTS + 1));
+			try (ResultSet resultSet = statement.executeQuery()) {
+				resultSet.next();
+				return email + ": " + resultSet.getString(1);
+			}
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -2,9 +2,11 @@ package com.app;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
 
-@SpringBootApplication(exclude = {UserDetailsServiceAutoConfiguration.class})
+// The R2DBC pool of the reactive read path is built in R2dbcConfig
+@SpringBootApplication(exclude = {UserDetailsServiceAutoConfiguration.class, R2dbcAutoConfiguration.class})
 public class Application {
 
     public static void main(String[] args) {
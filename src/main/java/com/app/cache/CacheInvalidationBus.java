@@ -0,0 +1,102 @@
+package com.app.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.app.cache.InvalidationMessage.EntityType;
+
+/**
+ * Publishes cache invalidation messages to every node.
+ *
+ * On PostgreSQL the message is sent with pg_notify. Inside a transaction the
+ * NOTIFY is issued just before commit: PostgreSQL only delivers it once the
+ * transaction commits and drops it on rollback, so other nodes never evict
+ * for a change that did not happen. The local caches are evicted once the
+ * transaction completes, after a rollback too: the transaction may have
+ * cached rows it wrote itself (e.g. a world created earlier in a batch).
+ * Outside a transaction (repository calls run in their own) both
+ * happen immediately.
+ *
+ * On other databases (H2 in tests) only the local caches are evicted.
+ */
+@Component
+public class CacheInvalidationBus {
+
+	private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+	private static final ResultSetExtractor<Void> IGNORE_RESULT = rs -> null;
+
+	private final CacheRegistry cacheRegistry;
+	private final JdbcTemplate jdbcTemplate;
+	private final String channel;
+	private final boolean notifyEnabled;
+
+	public CacheInvalidationBus(CacheRegistry cacheRegistry, JdbcTemplate jdbcTemplate,
+			CacheInvalidationListener listener,
+			@Value("${cache.invalidation.channel:storykeeper_cache}") String channel) {
+		this.cacheRegistry = cacheRegistry;
+		this.jdbcTemplate = jdbcTemplate;
+		this.channel = channel;
+		this.notifyEnabled = listener.isPostgres();
+	}
+
+	/**
+	 * Something owned by the user changed (e.g. a world was created or deleted).
+	 */
+	public void publishUserChange(Long userId) {
+		publish(EntityType.USER, userId, 0L);
+	}
+
+	public void publishWorldChange(Long worldId) {
+		publish(EntityType.WORLD, worldId, worldId);
+	}
+
+	public void publishEventChange(Long eventId, Long worldId) {
+		publish(EntityType.EVENT, eventId, worldId);
+	}
+
+	public void publishFigureChange(Long figureId, Long worldId) {
+		publish(EntityType.FIGURE, figureId, worldId);
+	}
+
+	private void publish(EntityType type, Long id, Long worldId) {
+		InvalidationMessage message = new InvalidationMessage(type, id, worldId);
+
+		if (TransactionSynchronizationManager.isActualTransactionActive()
+				&& TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void beforeCommit(boolean readOnly) {
+					sendNotification(message);
+				}
+
+				@Override
+				public void afterCompletion(int status) {
+					cacheRegistry.apply(message);
+				}
+			});
+			return;
+		}
+
+		cacheRegistry.apply(message);
+		sendNotification(message);
+	}
+
+	private void sendNotification(InvalidationMessage message) {
+		if (!notifyEnabled) {
+			return;
+		}
+		try {
+			jdbcTemplate.query("SELECT pg_notify(?, ?)", IGNORE_RESULT, channel, message.encode());
+		} catch (DataAccessException e) {
+			// Never fail the write because of the cache; other nodes fall back to the TTL
+			logger.warn("Failed to publish cache invalidation {}: {}", message, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package com.app.cache;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Listens for cache invalidation messages published by any node
+ * (see {@link CacheInvalidationBus}) and evicts the matching local entries.
+ *
+ * Uses one dedicated JDBC connection outside the pool, so it never holds a
+ * pool slot. If the connection drops, it reconnects with a backoff and clears
+ * all local caches, because notifications sent while disconnected are lost.
+ *
+ * Only active when the primary database is PostgreSQL.
+ */
+@Component
+public class CacheInvalidationListener implements SmartLifecycle {
+
+	private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationListener.class);
+	private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+	private final CacheRegistry cacheRegistry;
+	private final HikariDataSource pool;
+	private final String channel;
+	private final boolean enabled;
+	private final int pollTimeoutMs;
+	private final long keepaliveMs;
+	private final long reconnectDelayMs;
+
+	private volatile boolean running;
+	private volatile Connection connection;
+	private Thread thread;
+
+	public CacheInvalidationListener(DataSource dataSource, CacheRegistry cacheRegistry,
+			@Value("${cache.invalidation.channel:storykeeper_cache}") String channel,
+			@Value("${cache.invalidation.listener.enabled:true}") boolean enabled,
+			@Value("${cache.invalidation.listener.poll-timeout-ms:5000}") int pollTimeoutMs,
+			@Value("${cache.invalidation.listener.keepalive-ms:30000}") long keepaliveMs,
+			@Value("${cache.invalidation.listener.reconnect-delay-ms:2000}") long reconnectDelayMs) {
+		if (!CHANNEL_NAME.matcher(channel).matches()) {
+			throw new IllegalStateException("Invalid cache invalidation channel name: " + channel);
+		}
+		this.cacheRegistry = cacheRegistry;
+		this.pool = unwrapPostgresPool(dataSource);
+		this.channel = channel;
+		this.enabled = enabled;
+		this.pollTimeoutMs = pollTimeoutMs;
+		this.keepaliveMs = keepaliveMs;
+		this.reconnectDelayMs = reconnectDelayMs;
+	}
+
+	/**
+	 * Whether the primary database supports LISTEN/NOTIFY.
+	 */
+	public boolean isPostgres() {
+		return pool != null;
+	}
+
+	@Override
+	public void start() {
+		if (!enabled || pool == null) {
+			logger.info("Cache invalidation listener disabled (enabled={}, postgres={})", enabled, pool != null);
+			return;
+		}
+		running = true;
+		thread = new Thread(this::listenLoop, "cache-invalidation-listener");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		closeQuietly(connection);
+		if (thread != null) {
+			thread.interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void listenLoop() {
+		boolean connectedBefore = false;
+		while (running) {
+			try (Connection conn = openConnection()) {
+				connection = conn;
+				try (Statement statement = conn.createStatement()) {
+					statement.execute("LISTEN " + channel);
+				}
+				if (connectedBefore) {
+					// Anything published while we were disconnected was missed
+					cacheRegistry.clearAll();
+				}
+				connectedBefore = true;
+				logger.info("Listening for cache invalidations on channel '{}'", channel);
+				receive(conn);
+			} catch (SQLException e) {
+				if (running) {
+					logger.warn("Cache invalidation listener disconnected: {}; reconnecting in {} ms",
+							e.getMessage(), reconnectDelayMs);
+					sleep(reconnectDelayMs);
+				}
+			} finally {
+				connection = null;
+			}
+		}
+	}
+
+	private void receive(Connection conn) throws SQLException {
+		PGConnection pgConnection = conn.unwrap(PGConnection.class);
+		long lastActivity = System.currentTimeMillis();
+		while (running) {
+			PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+			if (notifications != null && notifications.length > 0) {
+				lastActivity = System.currentTimeMillis();
+				for (PGNotification notification : notifications) {
+					handle(notification.getParameter());
+				}
+			} else if (System.currentTimeMillis() - lastActivity > keepaliveMs) {
+				// A silently dropped connection only surfaces once we send something
+				try (Statement statement = conn.createStatement()) {
+					statement.execute("SELECT 1");
+				}
+				lastActivity = System.currentTimeMillis();
+			}
+		}
+	}
+
+	private void handle(String payload) {
+		try {
+			cacheRegistry.apply(InvalidationMessage.decode(payload));
+		} catch (IllegalArgumentException e) {
+			logger.warn("Ignoring cache invalidation: {}", e.getMessage());
+		}
+	}
+
+	private Connection openConnection() throws SQLException {
+		Properties properties = new Properties();
+		properties.putAll(pool.getDataSourceProperties());
+		if (pool.getUsername() != null) {
+			properties.setProperty("user", pool.getUsername());
+		}
+		if (pool.getPassword() != null) {
+			properties.setProperty("password", pool.getPassword());
+		}
+		return DriverManager.getConnection(pool.getJdbcUrl(), properties);
+	}
+
+	private static HikariDataSource unwrapPostgresPool(DataSource dataSource) {
+		try {
+			if (dataSource.isWrapperFor(HikariDataSource.class)) {
+				HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+				String url = hikari.getJdbcUrl();
+				if (url != null && url.startsWith("jdbc:postgresql:")) {
+					return hikari;
+				}
+			}
+		} catch (SQLException e) {
+			logger.warn("Could not inspect DataSource for LISTEN/NOTIFY support: {}", e.getMessage());
+		}
+		return null;
+	}
+
+	private static void closeQuietly(Connection conn) {
+		if (conn == null) {
+			return;
+		}
+		try {
+			conn.close();
+		} catch (SQLException e) {
+			// Already broken; nothing to do
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
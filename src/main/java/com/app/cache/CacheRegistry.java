@@ -0,0 +1,134 @@
+package com.app.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.app.model.User;
+import com.app.model.World;
+
+/**
+ * Holds the node-local caches and applies invalidation messages to them.
+ *
+ * Caches:
+ * - users: email -> CachedUser (looked up twice per authenticated request)
+ * - worlds: world id -> OwnedWorld, the world + owner id (ownership checks)
+ * - userWorlds: user id -> the worlds listed by GET /api/worlds
+ *
+ * Admission to the worlds cache follows the access estimates of
+ * {@link HotWorldTracker}, so a burst of one-off worlds cannot flush the hot set.
+ *
+ * Cached values are immutable snapshots, never JPA entities, because they are
+ * shared between request threads.
+ */
+@Component
+public class CacheRegistry {
+
+	private static final Logger logger = LoggerFactory.getLogger(CacheRegistry.class);
+
+	private final LocalCache<String, CachedUser> users;
+	private final LocalCache<Long, OwnedWorld> worlds;
+	private final LocalCache<Long, List<OwnedWorld>> userWorlds;
+
+	public CacheRegistry(
+			@Value("${cache.enabled:true}") boolean enabled,
+			@Value("${cache.ttl-seconds:300}") long ttlSeconds,
+			@Value("${cache.users.max-entries:10000}") int maxUsers,
+			@Value("${cache.worlds.max-entries:10000}") int maxWorlds,
+			@Value("${cache.user-worlds.max-entries:5000}") int maxUserWorlds,
+			HotWorldTracker hotWorldTracker) {
+		this.users = new LocalCache<>("users", enabled ? maxUsers : 0, ttlSeconds);
+		this.worlds = new LocalCache<>("worlds", enabled ? maxWorlds : 0, ttlSeconds);
+		this.userWorlds = new LocalCache<>("userWorlds", enabled ? maxUserWorlds : 0, ttlSeconds);
+		if (hotWorldTracker != null) {
+			this.worlds.setAdmissionPolicy(hotWorldTracker::shouldAdmit);
+		}
+	}
+
+	public LocalCache<String, CachedUser> users() {
+		return users;
+	}
+
+	public LocalCache<Long, List<OwnedWorld>> userWorlds() {
+		return userWorlds;
+	}
+
+	/**
+	 * Returns the world if it exists and is owned by the given user, using the
+	 * cache when possible.
+	 */
+	public Optional<OwnedWorld> findOwnedWorld(Long worldId, User owner, Supplier<Optional<World>> loader) {
+		OwnedWorld cached = worlds.get(worldId);
+		if (cached != null && cached.getOwnerId().equals(owner.getId())) {
+			return Optional.of(cached);
+		}
+
+		OwnedWorld loaded = worlds.getOrLoad(worldId,
+				() -> loader.get().map(world -> OwnedWorld.of(world, owner.getId())).orElse(null));
+		return loaded != null && loaded.getOwnerId().equals(owner.getId())
+				? Optional.of(loaded)
+				: Optional.empty();
+	}
+
+	/**
+	 * Loads and caches the given worlds that are not cached yet (cache warming).
+	 * As with request-time loads, results are dropped if an invalidation raced
+	 * with the load.
+	 *
+	 * @return number of worlds loaded
+	 */
+	public int warmWorlds(Collection<Long> worldIds, Function<Collection<Long>, List<OwnedWorld>> loader) {
+		List<Long> missing = worldIds.stream()
+				.filter(worldId -> !worlds.containsKey(worldId))
+				.collect(Collectors.toList());
+		if (missing.isEmpty()) {
+			return 0;
+		}
+
+		long epochBeforeLoad = worlds.currentEpoch();
+		List<OwnedWorld> loaded = loader.apply(missing);
+		for (OwnedWorld ownedWorld : loaded) {
+			worlds.putIfEpoch(ownedWorld.getId(), ownedWorld, epochBeforeLoad);
+		}
+		return loaded.size();
+	}
+
+	/**
+	 * Evicts every local entry affected by the given change.
+	 */
+	public void apply(InvalidationMessage message) {
+		switch (message.getType()) {
+			case USER -> {
+				users.evictIf((email, user) -> user.getId() != null && user.getId() == message.getId());
+				userWorlds.evict(message.getId());
+			}
+			case WORLD -> {
+				worlds.evict(message.getId());
+				userWorlds.evictIf((userId, list) -> list.stream()
+						.anyMatch(world -> world.getId() != null && world.getId() == message.getId()));
+			}
+			case EVENT, FIGURE -> {
+				// No event/figure data is cached yet
+			}
+		}
+	}
+
+	/**
+	 * Drops every local entry. Used after the invalidation listener reconnects,
+	 * since messages sent while it was disconnected are lost.
+	 */
+	public void clearAll() {
+		users.clear();
+		worlds.clear();
+		userWorlds.clear();
+		logger.info("Cleared all local caches");
+	}
+}
@@ -0,0 +1,42 @@
+package com.app.cache;
+
+import com.app.model.User;
+
+/**
+ * Immutable snapshot of a user for the users cache. Cached values are shared
+ * between request threads, so they are never JPA entities; each lookup gets
+ * its own User built from the snapshot.
+ */
+public class CachedUser {
+
+	private final Long id;
+	private final String email;
+
+	public CachedUser(Long id, String email) {
+		this.id = id;
+		this.email = email;
+	}
+
+	public static CachedUser of(User user) {
+		return new CachedUser(user.getId(), user.getEmail());
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	/**
+	 * A new, detached User with the id and email (no password hash). Attach
+	 * it to associations with UserRepository.getReferenceById.
+	 */
+	public User toUser() {
+		User user = new User();
+		user.setId(id);
+		user.setEmail(email);
+		return user;
+	}
+}
@@ -0,0 +1,92 @@
+package com.app.cache;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Count-min sketch over long keys.
+ *
+ * Estimates how often a key was seen using depth x width counters; estimates
+ * never undercount and overcount by a small, bounded amount. {@link #halve()}
+ * ages all counters so old popularity fades and recent traffic dominates.
+ *
+ * Safe for concurrent use. Counters saturate instead of overflowing.
+ */
+public class CountMinSketch {
+
+	private static final long[] SEEDS = {
+			0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+			0x85EBCA77C2B2AE63L, 0x27D4EB2F165667C5L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L };
+
+	private final int width;
+	private final int depth;
+	private final AtomicIntegerArray counters;
+
+	/**
+	 * @param width counters per row, rounded up to a power of two
+	 * @param depth number of rows (hash functions), 1 to 8
+	 */
+	public CountMinSketch(int width, int depth) {
+		if (depth < 1 || depth > SEEDS.length) {
+			throw new IllegalArgumentException("Depth must be between 1 and " + SEEDS.length);
+		}
+		int requested = Math.max(16, width);
+		this.width = Integer.bitCount(requested) == 1 ? requested : Integer.highestOneBit(requested) << 1;
+		this.depth = depth;
+		this.counters = new AtomicIntegerArray(this.width * depth);
+	}
+
+	/**
+	 * Records one occurrence of the key and returns its new estimate.
+	 */
+	public int increment(long key) {
+		int estimate = Integer.MAX_VALUE;
+		for (int row = 0; row < depth; row++) {
+			int index = indexOf(row, key);
+			int value;
+			int updated;
+			do {
+				value = counters.get(index);
+				updated = value == Integer.MAX_VALUE ? value : value + 1;
+			} while (!counters.compareAndSet(index, value, updated));
+			estimate = Math.min(estimate, updated);
+		}
+		return estimate;
+	}
+
+	public int estimate(long key) {
+		int estimate = Integer.MAX_VALUE;
+		for (int row = 0; row < depth; row++) {
+			estimate = Math.min(estimate, counters.get(indexOf(row, key)));
+		}
+		return estimate;
+	}
+
+	/**
+	 * Halves every counter (periodic aging).
+	 */
+	public void halve() {
+		for (int i = 0; i < counters.length(); i++) {
+			int value;
+			do {
+				value = counters.get(i);
+			} while (!counters.compareAndSet(i, value, value >>> 1));
+		}
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	private int indexOf(int row, long key) {
+		// Murmur3 finalizer over the key mixed with a per-row seed
+		long hash = key ^ SEEDS[row];
+		hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+		hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+		return row * width + ((int) hash & (width - 1));
+	}
+}
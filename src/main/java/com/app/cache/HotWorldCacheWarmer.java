@@ -0,0 +1,64 @@
+package com.app.cache;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.app.dto.admin.HotWorldResponse;
+import com.app.model.World;
+import com.app.repository.WorldRepository;
+
+/**
+ * Periodically preloads the hottest worlds into the worlds cache, so their
+ * first request after an eviction or restart does not pay for the lookup.
+ */
+@Component
+public class HotWorldCacheWarmer {
+
+	private static final Logger logger = LoggerFactory.getLogger(HotWorldCacheWarmer.class);
+
+	private final HotWorldTracker hotWorldTracker;
+	private final CacheRegistry cacheRegistry;
+	private final WorldRepository worldRepository;
+	private final int warmCount;
+
+	public HotWorldCacheWarmer(HotWorldTracker hotWorldTracker, CacheRegistry cacheRegistry,
+			WorldRepository worldRepository,
+			@Value("${hot-worlds.warm-count:50}") int warmCount) {
+		this.hotWorldTracker = hotWorldTracker;
+		this.cacheRegistry = cacheRegistry;
+		this.worldRepository = worldRepository;
+		this.warmCount = warmCount;
+	}
+
+	@Scheduled(fixedDelayString = "${hot-worlds.warm-interval-ms:30000}",
+			initialDelayString = "${hot-worlds.warm-interval-ms:30000}")
+	public void warmHotWorlds() {
+		List<Long> hotWorldIds = hotWorldTracker.topWorlds(warmCount).stream()
+				.map(HotWorldResponse::getWorldId)
+				.collect(Collectors.toList());
+		int loaded = warmWorlds(hotWorldIds);
+		if (loaded > 0) {
+			logger.debug("Warmed {} hot worlds into the cache", loaded);
+		}
+	}
+
+	/**
+	 * Loads the given worlds into the cache unless already present.
+	 *
+	 * @return number of worlds loaded
+	 */
+	public int warmWorlds(List<Long> worldIds) {
+		if (worldIds.isEmpty()) {
+			return 0;
+		}
+		return cacheRegistry.warmWorlds(worldIds, missing -> worldRepository.findWithOwnerIdByIdIn(missing).stream()
+				.map(row -> OwnedWorld.of((World) row[0], (Long) row[1]))
+				.collect(Collectors.toList()));
+	}
+}
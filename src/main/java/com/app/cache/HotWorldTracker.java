@@ -0,0 +1,106 @@
+package com.app.cache;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.app.dto.admin.HotWorldResponse;
+
+/**
+ * Estimates how often each world is accessed and keeps the current hot set.
+ *
+ * Every world-scoped request increments a {@link CountMinSketch}; worlds whose
+ * estimate beats the coldest tracked candidate enter a small candidate table,
+ * which is what the top-N list is built from. Counters are halved periodically
+ * so the ranking follows recent traffic.
+ *
+ * The estimates also drive admission to the worlds cache and eager warming
+ * (see {@link HotWorldCacheWarmer}).
+ */
+@Component
+public class HotWorldTracker {
+
+	private final CountMinSketch sketch;
+	private final int maxCandidates;
+	private final Map<Long, Integer> candidates = new ConcurrentHashMap<>();
+	private volatile int admissionFloor;
+
+	public HotWorldTracker(
+			@Value("${hot-worlds.sketch.width:4096}") int width,
+			@Value("${hot-worlds.sketch.depth:4}") int depth,
+			@Value("${hot-worlds.max-candidates:256}") int maxCandidates) {
+		this.sketch = new CountMinSketch(width, depth);
+		this.maxCandidates = Math.max(1, maxCandidates);
+	}
+
+	public void recordAccess(Long worldId) {
+		if (worldId == null) {
+			return;
+		}
+		int estimate = sketch.increment(worldId);
+		if (candidates.size() < maxCandidates || candidates.containsKey(worldId)) {
+			candidates.put(worldId, estimate);
+			return;
+		}
+
+		// Table is full: replace the coldest candidate if this world is now hotter.
+		// The floor skips the scan for the long tail of cold worlds.
+		if (estimate <= admissionFloor) {
+			return;
+		}
+		Map.Entry<Long, Integer> coldest = coldestCandidate();
+		if (coldest == null) {
+			return;
+		}
+		admissionFloor = coldest.getValue();
+		if (estimate > coldest.getValue() && candidates.remove(coldest.getKey(), coldest.getValue())) {
+			candidates.put(worldId, estimate);
+		}
+	}
+
+	public int estimate(Long worldId) {
+		return worldId == null ? 0 : sketch.estimate(worldId);
+	}
+
+	/**
+	 * Whether a candidate key should displace the cache's eviction victim.
+	 * Ties favor the candidate so a cold cache still fills up.
+	 */
+	public boolean shouldAdmit(Long candidateWorldId, Long victimWorldId) {
+		return estimate(candidateWorldId) >= estimate(victimWorldId);
+	}
+
+	/**
+	 * Returns up to limit world ids ordered by estimated access count, hottest first.
+	 */
+	public List<HotWorldResponse> topWorlds(int limit) {
+		return candidates.entrySet().stream()
+				.map(entry -> new HotWorldResponse(entry.getKey(), sketch.estimate(entry.getKey())))
+				.filter(world -> world.getEstimatedAccesses() > 0)
+				.sorted(Comparator.comparingInt(HotWorldResponse::getEstimatedAccesses).reversed())
+				.limit(Math.max(0, limit))
+				.collect(Collectors.toList());
+	}
+
+	@Scheduled(fixedRateString = "${hot-worlds.aging-interval-ms:60000}",
+			initialDelayString = "${hot-worlds.aging-interval-ms:60000}")
+	public void age() {
+		sketch.halve();
+		candidates.replaceAll((worldId, estimate) -> sketch.estimate(worldId));
+		candidates.values().removeIf(estimate -> estimate == 0);
+		admissionFloor = 0;
+	}
+
+	private Map.Entry<Long, Integer> coldestCandidate() {
+		return candidates.entrySet().stream()
+				.min(Map.Entry.comparingByValue())
+				.map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+				.orElse(null);
+	}
+}
@@ -0,0 +1,90 @@
+package com.app.cache;
+
+/**
+ * Compact cache invalidation message exchanged between nodes.
+ *
+ * Wire format (fits easily in a pg_notify payload):
+ * {@code <type>:<id>:<worldId>}, e.g. {@code W:42:42}.
+ * A worldId of 0 means the change is not scoped to a world (e.g. users).
+ *
+ * Messages carry no version: applying one only evicts, so a duplicate or
+ * out-of-order message costs at most an extra cache miss.
+ */
+public class InvalidationMessage {
+
+	public enum EntityType {
+		USER('U'),
+		WORLD('W'),
+		EVENT('E'),
+		FIGURE('F');
+
+		private final char code;
+
+		EntityType(char code) {
+			this.code = code;
+		}
+
+		public char getCode() {
+			return code;
+		}
+
+		static EntityType fromCode(char code) {
+			for (EntityType type : values()) {
+				if (type.code == code) {
+					return type;
+				}
+			}
+			throw new IllegalArgumentException("Unknown entity type code: " + code);
+		}
+	}
+
+	private final EntityType type;
+	private final long id;
+	private final long worldId;
+
+	public InvalidationMessage(EntityType type, long id, long worldId) {
+		this.type = type;
+		this.id = id;
+		this.worldId = worldId;
+	}
+
+	public EntityType getType() {
+		return type;
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public long getWorldId() {
+		return worldId;
+	}
+
+	public String encode() {
+		return type.getCode() + ":" + id + ":" + worldId;
+	}
+
+	/**
+	 * Parses a payload produced by {@link #encode()}. A trailing version, sent
+	 * by nodes running an older release during a rolling deploy, is ignored.
+	 *
+	 * @throws IllegalArgumentException if the payload is malformed
+	 */
+	public static InvalidationMessage decode(String payload) {
+		String[] parts = payload == null ? new String[0] : payload.split(":");
+		if (parts.length < 3 || parts.length > 4 || parts[0].length() != 1) {
+			throw new IllegalArgumentException("Malformed invalidation payload: " + payload);
+		}
+		try {
+			return new InvalidationMessage(EntityType.fromCode(parts[0].charAt(0)),
+					Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Malformed invalidation payload: " + payload, e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return encode();
+	}
+}
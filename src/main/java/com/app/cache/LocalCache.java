@@ -0,0 +1,207 @@
+package com.app.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Small bounded, in-process LRU cache with a time-to-live.
+ *
+ * Every invalidation bumps an internal epoch. {@link #getOrLoad} only stores a
+ * loaded value if no invalidation happened while the loader was running, so a
+ * slow read that races with a concurrent write can never re-insert stale data.
+ *
+ * An optional admission policy decides, once the cache is full, whether a new
+ * key may displace the least recently used one. Without a policy every new
+ * key is admitted (plain LRU).
+ *
+ * The loader always runs outside the lock.
+ */
+public class LocalCache<K, V> {
+
+	private final String name;
+	private final int maxEntries;
+	private final long ttlNanos;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long epoch;
+	private volatile BiPredicate<K, K> admissionPolicy;
+
+	public LocalCache(String name, int maxEntries, long ttlSeconds) {
+		this.name = name;
+		this.maxEntries = Math.max(0, maxEntries);
+		this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @param admissionPolicy tested with (candidate key, victim key) when full
+	 */
+	public void setAdmissionPolicy(BiPredicate<K, K> admissionPolicy) {
+		this.admissionPolicy = admissionPolicy;
+	}
+
+	/**
+	 * Returns whether the key is cached, without updating recency. An expired
+	 * entry that has not been purged yet still counts.
+	 */
+	public boolean containsKey(K key) {
+		lock.lock();
+		try {
+			return entries.containsKey(key);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the cached value, or null if absent or expired.
+	 */
+	public V get(K key) {
+		lock.lock();
+		try {
+			Entry<V> entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.isExpired(System.nanoTime())) {
+				entries.remove(key);
+				return null;
+			}
+			return entry.value;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the cached value or loads it. Null results are not cached.
+	 */
+	public V getOrLoad(K key, Supplier<V> loader) {
+		V cached = get(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		long epochBeforeLoad = currentEpoch();
+		V loaded = loader.get();
+		if (loaded != null) {
+			putIfEpoch(key, loaded, epochBeforeLoad);
+		}
+		return loaded;
+	}
+
+	public void put(K key, V value) {
+		lock.lock();
+		try {
+			store(key, value);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void evict(K key) {
+		lock.lock();
+		try {
+			epoch++;
+			entries.remove(key);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void evictIf(BiPredicate<K, V> predicate) {
+		lock.lock();
+		try {
+			epoch++;
+			entries.entrySet().removeIf(e -> predicate.test(e.getKey(), e.getValue().value));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void clear() {
+		lock.lock();
+		try {
+			epoch++;
+			entries.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int size() {
+		lock.lock();
+		try {
+			return entries.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Invalidation counter; pass it to {@link #putIfEpoch} for loads done
+	 * outside {@link #getOrLoad}.
+	 */
+	public long currentEpoch() {
+		lock.lock();
+		try {
+			return epoch;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Stores the value only if nothing was invalidated since the epoch was read.
+	 */
+	public void putIfEpoch(K key, V value, long expectedEpoch) {
+		lock.lock();
+		try {
+			if (epoch == expectedEpoch) {
+				store(key, value);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void store(K key, V value) {
+		if (maxEntries == 0) {
+			return;
+		}
+		if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+			// Access-ordered map: the first entry is the least recently used
+			Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+			Map.Entry<K, Entry<V>> victim = eldest.next();
+			BiPredicate<K, K> policy = admissionPolicy;
+			if (policy != null && !victim.getValue().isExpired(System.nanoTime())
+					&& !policy.test(key, victim.getKey())) {
+				return;
+			}
+			eldest.remove();
+		}
+		entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+	}
+
+	private static final class Entry<V> {
+		private final V value;
+		private final long expiresAtNanos;
+
+		private Entry(V value, long expiresAtNanos) {
+			this.value = value;
+			this.expiresAtNanos = expiresAtNanos;
+		}
+
+		private boolean isExpired(long now) {
+			return now - expiresAtNanos > 0;
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package com.app.cache;
+
+import java.time.LocalDateTime;
+
+import com.app.dto.world.WorldResponse;
+import com.app.model.World;
+
+/**
+ * Immutable snapshot of a cached world together with the id of its owner, so
+ * ownership can be checked without touching the (lazy) user association.
+ * Cached values are shared between request threads, so they are never JPA
+ * entities: writes attach the world with WorldRepository.getReferenceById.
+ */
+public class OwnedWorld {
+
+	private final Long id;
+	private final Long ownerId;
+	private final String name;
+	private final int startYear;
+	private final int currentYear;
+	private final String description;
+	private final LocalDateTime createdAt;
+	private final LocalDateTime updatedAt;
+
+	public OwnedWorld(Long id, Long ownerId, String name, int startYear, int currentYear, String description,
+			LocalDateTime createdAt, LocalDateTime updatedAt) {
+		this.id = id;
+		this.ownerId = ownerId;
+		this.name = name;
+		this.startYear = startYear;
+		this.currentYear = currentYear;
+		this.description = description;
+		this.createdAt = createdAt;
+		this.updatedAt = updatedAt;
+	}
+
+	public static OwnedWorld of(World world, Long ownerId) {
+		return new OwnedWorld(world.getId(), ownerId, world.getName(), world.getStartYear(), world.getCurrentYear(),
+				world.getDescription(), world.getCreatedAt(), world.getUpdatedAt());
+	}
+
+	public static OwnedWorld of(WorldResponse world, Long ownerId) {
+		return new OwnedWorld(world.getId(), ownerId, world.getName(), world.getStartYear(), world.getCurrentYear(),
+				world.getDescription(), world.getCreatedAt(), world.getUpdatedAt());
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Long getOwnerId() {
+		return ownerId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getStartYear() {
+		return startYear;
+	}
+
+	public int getCurrentYear() {
+		return currentYear;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public LocalDateTime getUpdatedAt() {
+		return updatedAt;
+	}
+}
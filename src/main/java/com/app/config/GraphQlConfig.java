@@ -0,0 +1,38 @@
+package com.app.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.schema.GraphQLTypeUtil;
+
+/**
+ * Limits for /api/graphql, checked before any data fetcher runs. Boot adds
+ * Instrumentation beans to the GraphQL engine.
+ *
+ * - depth: nesting of fields, e.g. world.events.figures.events
+ * - complexity: every field costs 1 plus what it selects, and a list field
+ * (events, figures, worlds) costs graphql.complexity.list-factor times what
+ * it selects, since it resolves it for every element
+ */
+@Configuration
+public class GraphQlConfig {
+
+	@Bean
+	public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(@Value("${graphql.max-depth:6}") int maxDepth) {
+		return new MaxQueryDepthInstrumentation(maxDepth);
+	}
+
+	@Bean
+	public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+			@Value("${graphql.max-complexity:5000}") int maxComplexity,
+			@Value("${graphql.complexity.list-factor:10}") int listFactor) {
+		return new MaxQueryComplexityInstrumentation(maxComplexity, (environment, childComplexity) -> {
+			boolean list = GraphQLTypeUtil.isList(
+					GraphQLTypeUtil.unwrapNonNull(environment.getFieldDefinition().getType()));
+			return 1 + (list ? childComplexity * listFactor : childComplexity);
+		});
+	}
+}
@@ -0,0 +1,71 @@
+package com.app.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.app.health.PoolWaitTracker;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hikari only accepts a single metrics tracker factory. This one feeds both
+ * the PoolWaitTracker (readiness, load shedding; primary pool only, so null
+ * for replicas) and Micrometer (hikaricp.connections.* meters).
+ *
+ * The meter registry is looked up when the pool starts rather than when the
+ * DataSource is created, so the DataSource does not depend on it.
+ */
+class PoolMetricsTrackerFactory implements MetricsTrackerFactory {
+
+	private final PoolWaitTracker poolWaitTracker;
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
+	PoolMetricsTrackerFactory(PoolWaitTracker poolWaitTracker, ObjectProvider<MeterRegistry> meterRegistry) {
+		this.poolWaitTracker = poolWaitTracker;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public IMetricsTracker create(String poolName, PoolStats poolStats) {
+		List<IMetricsTracker> trackers = new ArrayList<>();
+		if (poolWaitTracker != null) {
+			trackers.add(poolWaitTracker.create(poolName, poolStats));
+		}
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry != null) {
+			trackers.add(new MicrometerMetricsTrackerFactory(registry).create(poolName, poolStats));
+		}
+		return new IMetricsTracker() {
+			@Override
+			public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+				trackers.forEach(tracker -> tracker.recordConnectionCreatedMillis(connectionCreatedMillis));
+			}
+
+			@Override
+			public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+				trackers.forEach(tracker -> tracker.recordConnectionAcquiredNanos(elapsedAcquiredNanos));
+			}
+
+			@Override
+			public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+				trackers.forEach(tracker -> tracker.recordConnectionUsageMillis(elapsedBorrowedMillis));
+			}
+
+			@Override
+			public void recordConnectionTimeout() {
+				trackers.forEach(IMetricsTracker::recordConnectionTimeout);
+			}
+
+			@Override
+			public void close() {
+				trackers.forEach(IMetricsTracker::close);
+			}
+		};
+	}
+}
@@ -0,0 +1,75 @@
+package com.app.config;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+import com.app.r2dbc.ReactiveReadRepository;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+/**
+ * R2DBC connection pool for the reactive read path (reactive.enabled).
+ *
+ * The database is the one AppConfig connects to, addressed with R2DBC
+ * (JdbcConnectionSettings.toR2dbcUrl) unless `reactive.r2dbc.url` is set,
+ * which is required for anything but PostgreSQL. The pool is sized by
+ * `reactive.pool.*` and is separate from the Hikari pool.
+ *
+ * The pool is deliberately not a ConnectionFactory bean: Spring Boot's R2DBC
+ * auto-configuration is excluded and would otherwise also register an R2DBC
+ * transaction manager next to the JPA one.
+ */
+@Configuration
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+public class R2dbcConfig {
+
+	private static final Logger logger = LoggerFactory.getLogger(R2dbcConfig.class);
+
+	@Bean
+	public ReactiveReadRepository reactiveReadRepository(Environment env) {
+		JdbcConnectionSettings settings = AppConfig.resolveConnectionSettings(env);
+		String url = env.getProperty("reactive.r2dbc.url");
+		if (!StringUtils.hasText(url)) {
+			url = settings.toR2dbcUrl();
+		}
+		if (url == null) {
+			throw new IllegalStateException("reactive.enabled is set but no reactive.r2dbc.url is configured "
+					+ "and " + settings.getUrl() + " is not a PostgreSQL URL");
+		}
+
+		ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+		if (StringUtils.hasText(settings.getUsername())) {
+			options.option(ConnectionFactoryOptions.USER, settings.getUsername());
+		}
+		if (StringUtils.hasText(settings.getPassword())) {
+			options.option(ConnectionFactoryOptions.PASSWORD, settings.getPassword());
+		}
+
+		String poolName = env.getProperty("datasource.pool.name", "storykeeper") + "-r2dbc";
+		int maxSize = env.getProperty("reactive.pool.max-size", Integer.class, 10);
+		ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration
+				.builder(ConnectionFactories.get(options.build()))
+				.name(poolName)
+				.initialSize(Math.min(maxSize, env.getProperty("reactive.pool.initial-size", Integer.class, 2)))
+				.maxSize(maxSize)
+				.maxIdleTime(Duration.ofMillis(env.getProperty("reactive.pool.max-idle-time-ms", Long.class, 300000L)))
+				.maxAcquireTime(
+						Duration.ofMillis(env.getProperty("datasource.pool.connection-timeout-ms", Long.class, 5000L)))
+				.build();
+		ConnectionPool pool = new ConnectionPool(configuration);
+		logger.info("Reactive read path enabled: R2DBC pool '{}' (max={})", poolName, maxSize);
+		return new ReactiveReadRepository(DatabaseClient.create(pool), pool,
+				env.getProperty("reactive.fetch-size", Integer.class, 250));
+	}
+}
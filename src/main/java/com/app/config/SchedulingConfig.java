@@ -0,0 +1,12 @@
+package com.app.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background tasks (cache aging and warming).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -10,6 +10,10 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import com.app.filter.JwtAuthenticationFilter;
+import com.app.filter.LoadSheddingFilter;
+import com.app.filter.MetricsScrapeTokenFilter;
+
+import jakarta.servlet.DispatcherType;
 
 /**
  * Spring Security Configuration
@@ -17,10 +21,14 @@ import com.app.filter.JwtAuthenticationFilter;
  * Rules:
  * - Disable CSRF (API-only)
  * - Enable CORS
- * - Permit: /api/login, /api/register
+ * - Permit: /api/login, /api/register, /api/health/**
+ * - Admin only: /api/admin/**, /actuator/** (ROLE_ADMIN, see UserDetailsServiceImpl)
+ * - /actuator/prometheus: admins or the metrics scrape token (ROLE_METRICS)
  * - Secure: everything else under /api/**
+ * - Async dispatches are permitted (authorized on the original request)
  * 
- * JWT filter is added before UsernamePasswordAuthenticationFilter
+ * Load shedding runs first, then the JWT filter, both before
+ * UsernamePasswordAuthenticationFilter
  */
 @Configuration
 @EnableWebSecurity
@@ -28,8 +36,15 @@ public class SecurityConfig {
 
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
-	public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+	private final LoadSheddingFilter loadSheddingFilter;
+
+	private final MetricsScrapeTokenFilter metricsScrapeTokenFilter;
+
+	public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, LoadSheddingFilter loadSheddingFilter,
+			MetricsScrapeTokenFilter metricsScrapeTokenFilter) {
 		this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+		this.loadSheddingFilter = loadSheddingFilter;
+		this.metricsScrapeTokenFilter = metricsScrapeTokenFilter;
 	}
 
 	@Bean
@@ -44,14 +59,23 @@ public class SecurityConfig {
 						.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 				// Authorization rules
 				.authorizeHttpRequests(auth -> auth
+						// Async dispatches (streamed responses) finish a request that was already authorized;
+						// the JWT filter does not run again for them
+						.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 						// Public endpoints
-						.requestMatchers("/api/login", "/api/register", "/api/health").permitAll()
+						.requestMatchers("/api/login", "/api/register", "/api/health", "/api/health/**").permitAll()
+						// Operational endpoints
+						.requestMatchers("/actuator/prometheus").hasAnyRole("ADMIN", "METRICS")
+						.requestMatchers("/api/admin/**", "/actuator/**").hasRole("ADMIN")
 						// Secure everything else under /api/**
 						.requestMatchers("/api/**").authenticated()
 						// All other requests (non-API) are permitted
 						.anyRequest().permitAll())
 				// Add JWT filter before UsernamePasswordAuthenticationFilter
-				.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+				.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+				// Shed load before authentication touches the database
+				.addFilterBefore(loadSheddingFilter, JwtAuthenticationFilter.class)
+				.addFilterAfter(metricsScrapeTokenFilter, JwtAuthenticationFilter.class);
 
 		return http.build();
 	}
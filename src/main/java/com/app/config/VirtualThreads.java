@@ -0,0 +1,43 @@
+package com.app.config;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Threads for our own background work.
+ *
+ * Follows spring.threads.virtual.enabled the same way Spring Boot does for
+ * Tomcat and its task executor and scheduler: virtual threads on Java 21 or
+ * later, platform daemon threads otherwise. The build targets Java 17, so
+ * virtual threads are only created through Spring's VirtualThreadTaskExecutor.
+ */
+public final class VirtualThreads {
+
+	private VirtualThreads() {
+	}
+
+	public static boolean isSupported() {
+		return JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+	}
+
+	/**
+	 * Factory for threads named `name`: virtual if requested and supported.
+	 */
+	public static ThreadFactory threadFactory(String name, boolean virtual) {
+		if (virtual && isSupported()) {
+			ThreadFactory factory = new VirtualThreadTaskExecutor(name + "-").getVirtualThreadFactory();
+			return runnable -> {
+				Thread thread = factory.newThread(runnable);
+				thread.setName(name);
+				return thread;
+			};
+		}
+		return runnable -> {
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
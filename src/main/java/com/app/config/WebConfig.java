@@ -0,0 +1,48 @@
+package com.app.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.app.timing.TimedCborHttpMessageConverter;
+import com.app.timing.TimedJackson2HttpMessageConverter;
+import com.app.timing.TimedSmileHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * HTTP message converters, all with serialization time recorded for
+ * Server-Timing. Each replaces Boot's default converter for its media type,
+ * so JSON stays the default and the binary formats are only used when the
+ * client asks for them in Accept.
+ *
+ * - JSON: Boot's ObjectMapper
+ * - CBOR (application/cbor) and Smile (application/x-jackson-smile): mappers
+ * from Boot's builder, so they carry the same modules and spring.jackson.*
+ * settings as the JSON one (e.g. ISO date strings)
+ */
+@Configuration
+public class WebConfig {
+
+	@Bean
+	public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+		return new TimedJackson2HttpMessageConverter(objectMapper);
+	}
+
+	// The builder bean is prototype-scoped: each method gets its own
+	@Bean
+	public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(
+			Jackson2ObjectMapperBuilder builder) {
+		return new TimedCborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+	}
+
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(
+			Jackson2ObjectMapperBuilder builder) {
+		return new TimedSmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+	}
+}
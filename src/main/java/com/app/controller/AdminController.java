@@ -0,0 +1,102 @@
+package com.app.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.app.cache.HotWorldTracker;
+import com.app.dto.admin.HotWorldResponse;
+import com.app.dto.admin.RecordingResponse;
+import com.app.dto.admin.SlowQueryResponse;
+import com.app.dto.admin.VirtualThreadsResponse;
+import com.app.jdbc.SlowQueryLog;
+import com.app.profiling.FlightRecorderService;
+import com.app.profiling.VirtualThreadDiagnostics;
+
+/**
+ * Operational endpoints. Restricted to ROLE_ADMIN by SecurityConfig.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+	@Autowired
+	private HotWorldTracker hotWorldTracker;
+
+	@Autowired
+	private SlowQueryLog slowQueryLog;
+
+	@Autowired
+	private FlightRecorderService flightRecorderService;
+
+	@Autowired
+	private VirtualThreadDiagnostics virtualThreadDiagnostics;
+
+	@GetMapping("/hot-worlds")
+	public List<HotWorldResponse> getHotWorlds(@RequestParam(defaultValue = "10") int limit) {
+		return hotWorldTracker.topWorlds(Math.min(100, Math.max(1, limit)));
+	}
+
+	/**
+	 * Recent slow SQL statements, newest first, with their EXPLAIN plans.
+	 * sequentialScansOnly=true keeps those whose plan scans a table sequentially.
+	 */
+	@GetMapping("/slow-queries")
+	public List<SlowQueryResponse> getSlowQueries(@RequestParam(defaultValue = "50") int limit,
+			@RequestParam(defaultValue = "false") boolean sequentialScansOnly) {
+		return slowQueryLog.recent(Math.min(1000, Math.max(1, limit)), sequentialScansOnly);
+	}
+
+	/**
+	 * Starts a flight recording; download it from /jfr/{id}/file once its
+	 * state is STOPPED. 409 while another recording is running.
+	 */
+	@PostMapping("/jfr")
+	public ResponseEntity<RecordingResponse> startRecording(@RequestParam(defaultValue = "default") String profile,
+			@RequestParam(defaultValue = "60") long durationSeconds) {
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(flightRecorderService.start(profile, durationSeconds));
+	}
+
+	@GetMapping("/jfr")
+	public ResponseEntity<RecordingResponse> getRecording() {
+		return ResponseEntity.of(flightRecorderService.current());
+	}
+
+	@PostMapping("/jfr/stop")
+	public RecordingResponse stopRecording() {
+		return flightRecorderService.stop();
+	}
+
+	@GetMapping("/jfr/{id}/file")
+	public ResponseEntity<Resource> downloadRecording(@PathVariable long id) {
+		return flightRecorderService.finishedFile(id)
+				.map(file -> ResponseEntity.ok()
+						.contentType(MediaType.APPLICATION_OCTET_STREAM)
+						.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+								.filename("storykeeper-" + id + ".jfr").build().toString())
+						.<Resource>body(new FileSystemResource(file)))
+				.orElseGet(() -> ResponseEntity.notFound().build());
+	}
+
+	/**
+	 * Virtual thread mode, carrier pool and recently pinned virtual threads
+	 * (with virtual-threads.diagnostics.enabled).
+	 */
+	@GetMapping("/virtual-threads")
+	public VirtualThreadsResponse getVirtualThreads() {
+		return virtualThreadDiagnostics.status();
+	}
+}
@@ -1,11 +1,60 @@
 package com.app.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.app.cache.HotWorldTracker;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletResponse;
 
 public class BaseController {
+
+	private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+	@Autowired
+	private HotWorldTracker hotWorldTracker;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MappingJackson2CborHttpMessageConverter cborConverter;
+
+	@Autowired
+	private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+	/**
+	 * Records an access to a world for hot-world detection. Every world-scoped
+	 * endpoint should call this so cache admission and warming follow real
+	 * traffic. Call it only after the service has verified that the user owns
+	 * the world, so requests for other users' or nonexistent worlds cannot
+	 * inflate the counts. A world's first request therefore does not count
+	 * toward its own cache admission.
+	 * 
+	 * @param worldId The world being accessed
+	 */
+	protected void recordWorldAccess(Long worldId) {
+		hotWorldTracker.recordAccess(worldId);
+	}
+
 	/**
 	 * Returns a standardized success response for delete operations.
 	 * All delete endpoints should use this method to ensure consistent responses.
@@ -19,4 +68,71 @@ public class BaseController {
 		response.put("message", resourceName + " deleted successfully");
 		return ResponseEntity.ok(response);
 	}
+
+	/**
+	 * Returns a response body that writes a JSON array element by element as
+	 * the source passes them to its consumer, on an MVC async thread. Anything
+	 * that must fail the request with a proper status (ownership checks) has
+	 * to happen before; an error while streaming truncates the response.
+	 *
+	 * The array is written as CBOR or Smile instead when the request's Accept
+	 * header prefers one of them, like the message converters would.
+	 *
+	 * @param response The current response, to set the content type
+	 * @param source   Called once with the consumer of the array's elements
+	 * @return The body to return from the handler method (declared as Object)
+	 */
+	protected <T> StreamingResponseBody streamJsonArray(HttpServletResponse response,
+			Consumer<Consumer<T>> source) {
+		ObjectMapper mapper = objectMapper;
+		MediaType contentType = MediaType.APPLICATION_JSON;
+		MediaType binary = acceptedBinaryType();
+		if (binary != null) {
+			mapper = binary.equals(MediaType.APPLICATION_CBOR) ? cborConverter.getObjectMapper()
+					: smileConverter.getObjectMapper();
+			contentType = binary;
+		}
+		response.setContentType(contentType.toString());
+		ObjectMapper writer = mapper;
+		return outputStream -> {
+			try (JsonGenerator json = writer.createGenerator(outputStream)) {
+				json.writeStartArray();
+				source.accept(element -> {
+					try {
+						json.writeObject(element);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+				json.writeEndArray();
+			}
+		};
+	}
+
+	/**
+	 * @return application/cbor or application/x-jackson-smile when the
+	 *         current request accepts it with a higher quality than JSON (ties
+	 *         go to the first listed), otherwise null
+	 */
+	private MediaType acceptedBinaryType() {
+		String accept = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest()
+				.getHeader(HttpHeaders.ACCEPT);
+		if (accept == null) {
+			return null;
+		}
+		List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+		accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+		for (MediaType type : accepted) {
+			if (type.includes(MediaType.APPLICATION_JSON)) {
+				return null;
+			}
+			if (type.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+				return MediaType.APPLICATION_CBOR;
+			}
+			if (type.equalsTypeAndSubtype(SMILE)) {
+				return SMILE;
+			}
+		}
+		return null;
+	}
 }
@@ -0,0 +1,55 @@
+package com.app.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.app.dto.batch.BatchRequest;
+import com.app.dto.batch.BatchResponse;
+import com.app.dto.batch.BatchResult;
+import com.app.model.User;
+import com.app.service.AuthService;
+import com.app.service.BatchService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController extends BaseController {
+
+	@Autowired
+	private BatchService batchService;
+
+	@Autowired
+	private AuthService authService;
+
+	/**
+	 * Applies the operations in order with one authentication. A rolled back
+	 * ALL_OR_NOTHING batch answers with the failed operation's status;
+	 * otherwise the status is 200 and each result carries its own.
+	 */
+	@PostMapping
+	public ResponseEntity<BatchResponse> executeBatch(@AuthenticationPrincipal UserDetails userDetails,
+			@Valid @RequestBody BatchRequest request) {
+		User currentUser = authService.getUserByEmail(userDetails.getUsername());
+		BatchResponse response = batchService.execute(currentUser, request);
+
+		int status = HttpStatus.OK.value();
+		for (BatchResult result : response.getResults()) {
+			if (!response.isCommitted()) {
+				if (result.getStatus() != HttpStatus.FAILED_DEPENDENCY.value()) {
+					status = result.getStatus();
+				}
+			} else if (result.getWorldId() != null) {
+				recordWorldAccess(result.getWorldId());
+			}
+		}
+		return ResponseEntity.status(status).body(response);
+	}
+}
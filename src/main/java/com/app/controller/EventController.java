@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -21,9 +22,12 @@ import com.app.dto.event.EventCreateRequest;
 import com.app.dto.event.EventResponse;
 import com.app.dto.event.EventUpdateRequest;
 import com.app.model.User;
+import com.app.repository.SparseFieldset;
 import com.app.service.AuthService;
 import com.app.service.EventService;
+import com.app.service.WorldService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @RestController
@@ -36,19 +40,45 @@ public class EventController extends BaseController {
 	@Autowired
 	private AuthService authService;
 
+	@Autowired
+	private WorldService worldService;
+
+	@Value("${list-streaming.enabled:false}")
+	private boolean listStreaming;
+
 	@GetMapping
-	public List<EventResponse> getWorldsEvents(
+	public Object getWorldsEvents(
 			@RequestParam Long worldId,
-			@AuthenticationPrincipal UserDetails userDetails) {
+			@RequestParam(required = false) String fields,
+			@AuthenticationPrincipal UserDetails userDetails,
+			HttpServletResponse response) {
+		List<String> selectedFields = SparseFieldset.EVENTS.select(fields);
 		User currentUser = authService.getUserByEmail(userDetails.getUsername());
-		return eventService.getEventsByWorldId(currentUser, worldId);
+		Object events;
+		if (listStreaming) {
+			// Ownership is checked here; the events are read while the response is written
+			worldService.getWorldById(currentUser, worldId);
+			events = selectedFields != null
+					? this.<Map<String, Object>>streamJsonArray(response,
+							consumer -> eventService.forEachEventInWorld(worldId, selectedFields, consumer))
+					: this.<EventResponse>streamJsonArray(response,
+							consumer -> eventService.forEachEventInWorld(worldId, consumer));
+		} else {
+			events = selectedFields != null
+					? eventService.getEventsByWorldId(currentUser, worldId, selectedFields)
+					: eventService.getEventsByWorldId(currentUser, worldId);
+		}
+		recordWorldAccess(worldId);
+		return events;
 	}
 
 	@GetMapping("/{id}")
 	public EventResponse getEventById(
 			@AuthenticationPrincipal UserDetails userDetails, @PathVariable Long id) {
 		User currentUser = authService.getUserByEmail(userDetails.getUsername());
-		return eventService.getEventByIdAndWorldId(currentUser, id);
+		EventResponse response = eventService.getEventByIdAndWorldId(currentUser, id);
+		recordWorldAccess(response.getWorldId());
+		return response;
 	}
 
 	@PostMapping
@@ -56,7 +86,9 @@ public class EventController extends BaseController {
 			@AuthenticationPrincipal UserDetails userDetails,
 			@Valid @RequestBody EventCreateRequest request) {
 		User currentUser = authService.getUserByEmail(userDetails.getUsername());
-		return eventService.createEvent(currentUser, request);
+		EventResponse response = eventService.createEvent(currentUser, request);
+		recordWorldAccess(response.getWorldId());
+		return response;
 	}
 
 	@PatchMapping("/{id}")
@@ -65,7 +97,9 @@ public class EventController extends BaseController {
 			@PathVariable Long id,
 			@Valid @RequestBody EventUpdateRequest request) {
 		User currentUser = authService.getUserByEmail(userDetails.getUsername());
-		return eventService.updateEventById(currentUser, id, request);
+		EventResponse response = eventService.updateEventById(currentUser, id, request);
+		recordWorldAccess(response.getWorldId());
+		return response;
 	}
 
 	@DeleteMapping("/{id}")
@@ -82,7 +116,9 @@ public class EventController extends BaseController {
 			@PathVariable Long eventId,
 			@PathVariable Long figureId) {
 		User currentUser = authService.getUserByEmail(userDetails.getUsername());
-		return eventService.linkFigure(currentUser, eventId, figureId);
+		EventResponse response = eventService.linkFigure(currentUser, eventId, figureId);
+		recordWorldAccess(response.getWorldId());
+		return response;
 	}
 
 	@DeleteMapping("/{eventId}/figures/{figureId}")
@@ -90,6 +126,8 @@ public class EventController extends BaseController {
 			@PathVariable Long eventId,
 			@PathVariable Long figureId) {
 		User currentUser = authService.getUserByEmail(userDetails.getUsername());
-		return eventService.unlinkFigure(currentUser, eventId, figureId);
+		EventResponse response = eventService.unlinkFigure(currentUser, eventId, figureId);
+		recordWorldAccess(response.getWorldId());
+		return response;
 	}
 }
@@ -1,8 +1,10 @@
 package com.app.controller;
 
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,8 +22,12 @@ import com.app.dto.figure.FigureCreateRequest;
 import com.app.dto.figure.FigureResponse;
 import com.app.dto.figure.FigureUpdateRequest;
 import com.app.model.User;
+import com.app.repository.SparseFieldset;
 import com.app.service.AuthService;
 import com.app.service.FigureService;
+import com.app.service.WorldService;
+
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping("/api/figures")
@@ -33,34 +39,64 @@ public class FigureController extends BaseController {
 	@Autowired
 	private AuthService authService;
 
+	@Autowired
+	private WorldService worldService;
+
+	@Value("${list-streaming.enabled:false}")
+	private boolean listStreaming;
+
 	@GetMapping
 	public Object getFiguresByWorldId(
 			@RequestParam Long worldId,
 			@RequestParam(required = false) Integer page,
 			@RequestParam(required = false) Integer limit,
 			@RequestParam(required = false) String search,
-			@AuthenticationPrincipal UserDetails userDetails) {
+			@RequestParam(required = false) String fields,
+			@AuthenticationPrincipal UserDetails userDetails,
+			HttpServletResponse response) {
+		List<String> selectedFields = SparseFieldset.FIGURES.select(fields);
 		User currentUser = authService.getUserByEmail(userDetails.getUsername());
+		Object figures;
 		if (page != null || limit != null) {
 			int pageNum = page != null ? Math.max(0, page) : 0;
 			int limitNum = limit != null ? Math.min(100, Math.max(1, limit)) : 20;
-			return figureService.getFiguresByWorldIdPaginated(currentUser, worldId, pageNum, limitNum, search);
+			figures = selectedFields != null
+					? figureService.getFiguresByWorldIdPaginated(currentUser, worldId, pageNum, limitNum, search,
+							selectedFields)
+					: figureService.getFiguresByWorldIdPaginated(currentUser, worldId, pageNum, limitNum, search);
+		} else if (listStreaming) {
+			// Ownership is checked here; the figures are read while the response is written
+			worldService.getWorldById(currentUser, worldId);
+			figures = selectedFields != null
+					? this.<Map<String, Object>>streamJsonArray(response,
+							consumer -> figureService.forEachFigureInWorld(worldId, search, selectedFields, consumer))
+					: this.<FigureResponse>streamJsonArray(response,
+							consumer -> figureService.forEachFigureInWorld(worldId, search, consumer));
+		} else {
+			figures = selectedFields != null
+					? figureService.getFiguresByWorldId(currentUser, worldId, search, selectedFields)
+					: figureService.getFiguresByWorldId(currentUser, worldId, search);
 		}
-		return figureService.getFiguresByWorldId(currentUser, worldId, search);
+		recordWorldAccess(worldId);
+		return figures;
 	}
 
 	@GetMapping("/{id}")
 	public FigureResponse getFigureById(@AuthenticationPrincipal UserDetails userDetails,
 			@PathVariable Long id) {
 		User currentUser = authService.getUserByEmail(userDetails.getUsername());
-		return figureService.getFigureById(currentUser, id);
+		FigureResponse response = figureService.getFigureById(currentUser, id);
+		recordWorldAccess(response.getWorldId());
+		return response;
 	}
 
 	@PostMapping
 	public FigureResponse createFigure(@AuthenticationPrincipal UserDetails userDetails,
 			@RequestBody FigureCreateRequest request) {
 		User currentUser = authService.getUserByEmail(userDetails.getUsername());
-		return figureService.createFigure(currentUser, request);
+		FigureResponse response = figureService.createFigure(currentUser, request);
+		recordWorldAccess(response.getWorldId());
+		return response;
 	}
 
 	@PatchMapping("/{id}")
@@ -68,7 +104,9 @@ public class FigureController extends BaseController {
 			@PathVariable Long id,
 			@RequestBody FigureUpdateRequest request) {
 		User currentUser = authService.getUserByEmail(userDetails.getUsername());
-		return figureService.updateFigureById(currentUser, id, request);
+		FigureResponse response = figureService.updateFigureById(currentUser, id, request);
+		recordWorldAccess(response.getWorldId());
+		return response;
 	}
 
 	@DeleteMapping("/{id}")
@@ -84,7 +122,9 @@ public class FigureController extends BaseController {
 			@PathVariable Long figureId,
 			@PathVariable Long eventId) {
 		User currentUser = authService.getUserByEmail(userDetails.getUsername());
-		return figureService.linkEvent(currentUser, figureId, eventId);
+		FigureResponse response = figureService.linkEvent(currentUser, figureId, eventId);
+		recordWorldAccess(response.getWorldId());
+		return response;
 	}
 
 	@DeleteMapping("/{figureId}/events/{eventId}")
@@ -92,6 +132,8 @@ public class FigureController extends BaseController {
 			@PathVariable Long figureId,
 			@PathVariable Long eventId) {
 		User currentUser = authService.getUserByEmail(userDetails.getUsername());
-		return figureService.unlinkEvent(currentUser, figureId, eventId);
+		FigureResponse response = figureService.unlinkEvent(currentUser, figureId, eventId);
+		recordWorldAccess(response.getWorldId());
+		return response;
 	}
 }
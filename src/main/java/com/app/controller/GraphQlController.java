@@ -0,0 +1,155 @@
+package com.app.controller;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.ContextValue;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import com.app.dto.event.EventResponse;
+import com.app.dto.figure.FigureResponse;
+import com.app.dto.world.WorldResponse;
+import com.app.model.User;
+import com.app.service.EventService;
+import com.app.service.FigureService;
+import com.app.service.WorldService;
+
+/**
+ * GraphQL queries over the signed-in user's worlds (schema in
+ * resources/graphql). The user comes from GraphQlUserInterceptor, and root
+ * fields check ownership like the REST endpoints.
+ *
+ * Nested fields are @BatchMapping methods: per request, a data loader
+ * collects the parents of one field (e.g. every event whose figures are
+ * selected) and resolves them with a single IN (...) query, so the number of
+ * statements grows with the depth of the query, not with the number of
+ * parents. Those queries only return rows of worlds the user owns.
+ */
+@Controller
+public class GraphQlController extends BaseController {
+
+	@Autowired
+	private WorldService worldService;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private FigureService figureService;
+
+	@QueryMapping
+	public List<WorldResponse> worlds(@ContextValue User currentUser) {
+		return worldService.getUserWorlds(currentUser);
+	}
+
+	@QueryMapping
+	public WorldResponse world(@Argument Long id, @ContextValue User currentUser) {
+		WorldResponse response = worldService.getWorldById(currentUser, id);
+		recordWorldAccess(id);
+		return response;
+	}
+
+	@QueryMapping
+	public EventResponse event(@Argument Long id, @ContextValue User currentUser) {
+		EventResponse response = eventService.getEventByIdAndWorldId(currentUser, id);
+		recordWorldAccess(response.getWorldId());
+		return response;
+	}
+
+	@QueryMapping
+	public FigureResponse figure(@Argument Long id, @ContextValue User currentUser) {
+		FigureResponse response = figureService.getFigureById(currentUser, id);
+		recordWorldAccess(response.getWorldId());
+		return response;
+	}
+
+	@BatchMapping(typeName = "World", field = "events")
+	public List<List<EventResponse>> worldEvents(List<WorldResponse> worlds, @ContextValue User currentUser) {
+		Set<Long> worldIds = worlds.stream().map(WorldResponse::getId).collect(Collectors.toSet());
+		Map<Long, List<EventResponse>> byWorld = eventService.getEventsInWorlds(currentUser, worldIds)
+				.stream()
+				.collect(Collectors.groupingBy(EventResponse::getWorldId));
+		return worlds.stream().map(world -> byWorld.getOrDefault(world.getId(), List.of())).toList();
+	}
+
+	@BatchMapping(typeName = "World", field = "figures")
+	public List<List<FigureResponse>> worldFigures(List<WorldResponse> worlds, @ContextValue User currentUser) {
+		Set<Long> worldIds = worlds.stream().map(WorldResponse::getId).collect(Collectors.toSet());
+		Map<Long, List<FigureResponse>> byWorld = figureService.getFiguresInWorlds(currentUser, worldIds)
+				.stream()
+				.collect(Collectors.groupingBy(FigureResponse::getWorldId));
+		return worlds.stream().map(world -> byWorld.getOrDefault(world.getId(), List.of())).toList();
+	}
+
+	@BatchMapping(typeName = "Event", field = "figures")
+	public List<List<FigureResponse>> eventFigures(List<EventResponse> events, @ContextValue User currentUser) {
+		Map<Long, List<FigureResponse>> byEvent = new HashMap<>();
+		for (EventResponse event : events) {
+			byEvent.put(event.getId(), new ArrayList<>());
+		}
+		for (FigureResponse figure : figureService.getFiguresLinkedToEvents(currentUser, events)) {
+			for (Long eventId : figure.getEventIds()) {
+				List<FigureResponse> linked = byEvent.get(eventId);
+				if (linked != null) {
+					linked.add(figure);
+				}
+			}
+		}
+		return events.stream().map(event -> byEvent.get(event.getId())).toList();
+	}
+
+	@BatchMapping(typeName = "Figure", field = "events")
+	public List<List<EventResponse>> figureEvents(List<FigureResponse> figures, @ContextValue User currentUser) {
+		Set<Long> eventIds = new HashSet<>();
+		for (FigureResponse figure : figures) {
+			eventIds.addAll(figure.getEventIds());
+		}
+		// Timeline position of each event, to order every figure's events
+		Map<Long, Integer> positions = new HashMap<>();
+		Map<Long, EventResponse> byId = new HashMap<>();
+		if (!eventIds.isEmpty()) {
+			for (EventResponse event : eventService.getEventsByIds(currentUser, eventIds)) {
+				positions.put(event.getId(), positions.size());
+				byId.put(event.getId(), event);
+			}
+		}
+		return figures.stream()
+				.map(figure -> figure.getEventIds().stream()
+						.filter(byId::containsKey)
+						.sorted(Comparator.comparing(positions::get))
+						.map(byId::get)
+						.toList())
+				.toList();
+	}
+
+	@BatchMapping(typeName = "Event", field = "world")
+	public List<WorldResponse> eventWorld(List<EventResponse> events, @ContextValue User currentUser) {
+		Map<Long, WorldResponse> worlds = userWorlds(currentUser);
+		return events.stream().map(event -> worlds.get(event.getWorldId())).toList();
+	}
+
+	@BatchMapping(typeName = "Figure", field = "world")
+	public List<WorldResponse> figureWorld(List<FigureResponse> figures, @ContextValue User currentUser) {
+		Map<Long, WorldResponse> worlds = userWorlds(currentUser);
+		return figures.stream().map(figure -> worlds.get(figure.getWorldId())).toList();
+	}
+
+	/**
+	 * The user's worlds by id, from the cached world list.
+	 */
+	private Map<Long, WorldResponse> userWorlds(User currentUser) {
+		return worldService.getUserWorlds(currentUser).stream()
+				.collect(Collectors.toMap(WorldResponse::getId, Function.identity()));
+	}
+}
@@ -1,17 +1,50 @@
 package com.app.controller;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.app.dto.health.ReadinessResponse;
+import com.app.health.ReadinessReporter;
+
 import java.util.Map;
 
 @RestController
-@RequestMapping("/api")
+@RequestMapping("/api/health")
 public class HealthController {
 
-    @GetMapping("/health")
-    public Map<String, String> health() {
-        return Map.of("status", "ok");
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @Autowired
+    private ReadinessReporter readinessReporter;
+
+    /**
+     * Liveness: the process is up and able to serve requests. Never touches
+     * the database, so a database outage does not get the instance restarted.
+     */
+    @GetMapping("/live")
+    public ResponseEntity<Map<String, String>> live() {
+        if (applicationAvailability.getLivenessState() != LivenessState.CORRECT) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("status", "broken"));
+        }
+        return ResponseEntity.ok(Map.of("status", "ok"));
+    }
+
+    /**
+     * Readiness: 503 until warm-up has finished, and while the database is
+     * unreachable or the connection pool is saturated. /api/health is kept
+     * as an alias for existing load balancer configurations.
+     */
+    @GetMapping({ "", "/ready" })
+    public ResponseEntity<ReadinessResponse> ready() {
+        ReadinessResponse readiness = readinessReporter.report();
+        HttpStatus status = "ok".equals(readiness.getStatus()) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(readiness);
     }
 }
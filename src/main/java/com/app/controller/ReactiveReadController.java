@@ -0,0 +1,100 @@
+package com.app.controller;
+
+import java.io.UncheckedIOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.app.model.User;
+import com.app.r2dbc.ReactiveReadRepository;
+import com.app.service.AuthService;
+import com.app.service.WorldService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variants of GET /api/events and GET /api/figures (without
+ * pagination), enabled with reactive.enabled.
+ *
+ * Authentication and the world ownership check run as usual on the request
+ * thread. After that the request goes async: rows are read over R2DBC and
+ * written as a JSON array in chunks of reactive.chunk-size, each chunk only
+ * requested from the database once the previous one has been written, so
+ * neither a thread nor the whole result is held while the database or the
+ * client is slow.
+ */
+@RestController
+@RequestMapping("/api/reactive")
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+public class ReactiveReadController extends BaseController {
+
+	@Autowired
+	private ReactiveReadRepository reactiveReadRepository;
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private WorldService worldService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Value("${reactive.chunk-size:64}")
+	private int chunkSize;
+
+	@GetMapping(value = "/events", produces = MediaType.APPLICATION_JSON_VALUE)
+	public Flux<String> getWorldsEvents(
+			@RequestParam Long worldId,
+			@AuthenticationPrincipal UserDetails userDetails) {
+		checkOwnership(userDetails, worldId);
+		return jsonArray(reactiveReadRepository.findEventsByWorldId(worldId));
+	}
+
+	@GetMapping(value = "/figures", produces = MediaType.APPLICATION_JSON_VALUE)
+	public Flux<String> getFiguresByWorldId(
+			@RequestParam Long worldId,
+			@RequestParam(required = false) String search,
+			@AuthenticationPrincipal UserDetails userDetails) {
+		checkOwnership(userDetails, worldId);
+		return jsonArray(reactiveReadRepository.findFiguresByWorldId(worldId, search));
+	}
+
+	private void checkOwnership(UserDetails userDetails, Long worldId) {
+		User currentUser = authService.getUserByEmail(userDetails.getUsername());
+		// Throws WorldNotFoundException (404) before anything is streamed
+		worldService.getWorldById(currentUser, worldId);
+		recordWorldAccess(worldId);
+	}
+
+	private Flux<String> jsonArray(Flux<?> items) {
+		ObjectWriter writer = objectMapper.writer();
+		Flux<String> elements = items.buffer(chunkSize).index().map(chunk -> {
+			StringBuilder json = new StringBuilder();
+			for (Object item : chunk.getT2()) {
+				if (json.length() > 0 || chunk.getT1() > 0) {
+					json.append(',');
+				}
+				try {
+					json.append(writer.writeValueAsString(item));
+				} catch (JsonProcessingException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+			return json.toString();
+		});
+		return Flux.concat(Mono.just("["), elements, Mono.just("]"));
+	}
+}
@@ -14,13 +14,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.app.dto.world.WorldCreateRequest;
+import com.app.dto.world.WorldDashboardResponse;
 import com.app.dto.world.WorldResponse;
 import com.app.dto.world.WorldUpdateRequest;
 import com.app.model.User;
+import com.app.repository.SparseFieldset;
 import com.app.service.AuthService;
+import com.app.service.DashboardService;
 import com.app.service.WorldService;
 
 import jakarta.validation.Valid;
@@ -35,10 +39,17 @@ public class WorldController extends BaseController {
 	@Autowired
 	private AuthService authService;
 
+	@Autowired
+	private DashboardService dashboardService;
+
 	@GetMapping
-	public List<WorldResponse> getUserWorlds(@AuthenticationPrincipal UserDetails userDetails) {
+	public List<?> getUserWorlds(@RequestParam(required = false) String fields,
+			@AuthenticationPrincipal UserDetails userDetails) {
+		List<String> selectedFields = SparseFieldset.WORLDS.select(fields);
 		User currentUser = authService.getUserByEmail(userDetails.getUsername());
-		return worldService.getUserWorlds(currentUser);
+		return selectedFields != null
+				? worldService.getUserWorlds(currentUser, selectedFields)
+				: worldService.getUserWorlds(currentUser);
 	}
 
 	@GetMapping("/{id}")
@@ -46,7 +57,25 @@ public class WorldController extends BaseController {
 			@AuthenticationPrincipal UserDetails userDetails,
 			@PathVariable Long id) {
 		User currentUser = authService.getUserByEmail(userDetails.getUsername());
-		return worldService.getWorldById(currentUser, id);
+		WorldResponse response = worldService.getWorldById(currentUser, id);
+		recordWorldAccess(id);
+		return response;
+	}
+
+	/**
+	 * The world, its first events and figures (limit each, at most 100) and
+	 * its event and figure counts in one response, with one ownership check.
+	 */
+	@GetMapping("/{id}/dashboard")
+	public WorldDashboardResponse getWorldDashboard(
+			@AuthenticationPrincipal UserDetails userDetails,
+			@PathVariable Long id,
+			@RequestParam(required = false) Integer limit) {
+		User currentUser = authService.getUserByEmail(userDetails.getUsername());
+		int limitNum = limit != null ? Math.min(100, Math.max(1, limit)) : 20;
+		WorldDashboardResponse response = dashboardService.getDashboard(currentUser, id, limitNum);
+		recordWorldAccess(id);
+		return response;
 	}
 
 	@PostMapping
@@ -63,7 +92,9 @@ public class WorldController extends BaseController {
 			@PathVariable Long id,
 			@Valid @RequestBody WorldUpdateRequest request) {
 		User currentUser = authService.getUserByEmail(userDetails.getUsername());
-		return worldService.updateWorld(currentUser, id, request);
+		WorldResponse response = worldService.updateWorld(currentUser, id, request);
+		recordWorldAccess(id);
+		return response;
 	}
 
 	@DeleteMapping("/{id}")
@@ -0,0 +1,23 @@
+package com.app.dto.admin;
+
+/**
+ * DTO for a frequently accessed world and its estimated access count.
+ */
+public class HotWorldResponse {
+
+	private Long worldId;
+	private int estimatedAccesses;
+
+	public HotWorldResponse(Long worldId, int estimatedAccesses) {
+		this.worldId = worldId;
+		this.estimatedAccesses = estimatedAccesses;
+	}
+
+	public Long getWorldId() {
+		return worldId;
+	}
+
+	public int getEstimatedAccesses() {
+		return estimatedAccesses;
+	}
+}
@@ -0,0 +1,56 @@
+package com.app.dto.admin;
+
+import java.time.Instant;
+
+/**
+ * DTO for the state of an on-demand flight recording.
+ */
+public class RecordingResponse {
+
+	private long id;
+	private String profile;
+	private String state;
+	private Instant startedAt;
+	private long durationSeconds;
+	private long sizeBytes;
+
+	public RecordingResponse(long id, String profile, String state, Instant startedAt, long durationSeconds,
+			long sizeBytes) {
+		this.id = id;
+		this.profile = profile;
+		this.state = state;
+		this.startedAt = startedAt;
+		this.durationSeconds = durationSeconds;
+		this.sizeBytes = sizeBytes;
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public String getProfile() {
+		return profile;
+	}
+
+	/**
+	 * RUNNING, or STOPPED once the file can be downloaded.
+	 */
+	public String getState() {
+		return state;
+	}
+
+	public Instant getStartedAt() {
+		return startedAt;
+	}
+
+	public long getDurationSeconds() {
+		return durationSeconds;
+	}
+
+	/**
+	 * Size of the finished recording file, 0 while running.
+	 */
+	public long getSizeBytes() {
+		return sizeBytes;
+	}
+}
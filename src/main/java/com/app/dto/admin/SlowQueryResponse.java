@@ -0,0 +1,68 @@
+package com.app.dto.admin;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * DTO for a slow SQL statement and, if captured, its execution plan.
+ */
+public class SlowQueryResponse {
+
+	private String statement;
+	private long elapsedMillis;
+	private Instant occurredAt;
+	private String thread;
+	private List<String> sequentialScans;
+	private JsonNode plan;
+	private String planError;
+
+	public SlowQueryResponse(String statement, long elapsedMillis, Instant occurredAt, String thread,
+			List<String> sequentialScans, JsonNode plan, String planError) {
+		this.statement = statement;
+		this.elapsedMillis = elapsedMillis;
+		this.occurredAt = occurredAt;
+		this.thread = thread;
+		this.sequentialScans = sequentialScans;
+		this.plan = plan;
+		this.planError = planError;
+	}
+
+	/**
+	 * Normalized statement shape (literals and IN lists replaced).
+	 */
+	public String getStatement() {
+		return statement;
+	}
+
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+	public Instant getOccurredAt() {
+		return occurredAt;
+	}
+
+	public String getThread() {
+		return thread;
+	}
+
+	/**
+	 * Tables the plan reads with a sequential scan.
+	 */
+	public List<String> getSequentialScans() {
+		return sequentialScans;
+	}
+
+	/**
+	 * EXPLAIN (FORMAT JSON) output, null if not captured (yet).
+	 */
+	public JsonNode getPlan() {
+		return plan;
+	}
+
+	public String getPlanError() {
+		return planError;
+	}
+}
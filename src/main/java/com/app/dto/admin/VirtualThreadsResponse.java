@@ -0,0 +1,115 @@
+package com.app.dto.admin;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for the virtual thread mode and its pinning diagnostics.
+ */
+public class VirtualThreadsResponse {
+
+	private boolean enabled;
+	private boolean supported;
+	private boolean diagnostics;
+	private int carrierParallelism;
+	private int carrierMaxPoolSize;
+	private long pinnedEvents;
+	private long submitFailedEvents;
+	private List<PinnedEvent> recentPinned;
+
+	public VirtualThreadsResponse(boolean enabled, boolean supported, boolean diagnostics, int carrierParallelism,
+			int carrierMaxPoolSize, long pinnedEvents, long submitFailedEvents, List<PinnedEvent> recentPinned) {
+		this.enabled = enabled;
+		this.supported = supported;
+		this.diagnostics = diagnostics;
+		this.carrierParallelism = carrierParallelism;
+		this.carrierMaxPoolSize = carrierMaxPoolSize;
+		this.pinnedEvents = pinnedEvents;
+		this.submitFailedEvents = submitFailedEvents;
+		this.recentPinned = recentPinned;
+	}
+
+	/**
+	 * spring.threads.virtual.enabled; only effective if also supported.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Whether the JVM has virtual threads (Java 21 or later).
+	 */
+	public boolean isSupported() {
+		return supported;
+	}
+
+	public boolean isDiagnostics() {
+		return diagnostics;
+	}
+
+	/**
+	 * Carrier threads that run virtual threads (the scheduler's parallelism).
+	 */
+	public int getCarrierParallelism() {
+		return carrierParallelism;
+	}
+
+	/**
+	 * Upper bound on carrier threads, including those added to compensate for
+	 * pinned or blocked carriers.
+	 */
+	public int getCarrierMaxPoolSize() {
+		return carrierMaxPoolSize;
+	}
+
+	public long getPinnedEvents() {
+		return pinnedEvents;
+	}
+
+	public long getSubmitFailedEvents() {
+		return submitFailedEvents;
+	}
+
+	/**
+	 * Most recent first.
+	 */
+	public List<PinnedEvent> getRecentPinned() {
+		return recentPinned;
+	}
+
+	/**
+	 * A virtual thread that blocked while pinned to its carrier.
+	 */
+	public static class PinnedEvent {
+		private Instant occurredAt;
+		private String thread;
+		private double durationMillis;
+		private List<String> stackTrace;
+
+		public PinnedEvent(Instant occurredAt, String thread, double durationMillis, List<String> stackTrace) {
+			this.occurredAt = occurredAt;
+			this.thread = thread;
+			this.durationMillis = durationMillis;
+			this.stackTrace = stackTrace;
+		}
+
+		public Instant getOccurredAt() {
+			return occurredAt;
+		}
+
+		public String getThread() {
+			return thread;
+		}
+
+		public double getDurationMillis() {
+			return durationMillis;
+		}
+
+		/**
+		 * Top frames, innermost first.
+		 */
+		public List<String> getStackTrace() {
+			return stackTrace;
+		}
+	}
+}
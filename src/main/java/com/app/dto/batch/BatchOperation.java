@@ -0,0 +1,63 @@
+package com.app.dto.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * One operation of a batch, named after the service method it calls.
+ *
+ * id is the world, event or figure to update or delete (the figure for
+ * links), eventId the event to link or unlink, and body the same JSON the
+ * matching REST endpoint takes.
+ */
+public class BatchOperation {
+
+	public enum Type {
+		CREATE_WORLD, UPDATE_WORLD, DELETE_WORLD,
+		CREATE_EVENT, UPDATE_EVENT, DELETE_EVENT,
+		CREATE_FIGURE, UPDATE_FIGURE, DELETE_FIGURE,
+		LINK_FIGURE_EVENT, UNLINK_FIGURE_EVENT
+	}
+
+	@NotNull(message = "Operation type is required")
+	private Type op;
+
+	private Long id;
+
+	private Long eventId;
+
+	private JsonNode body;
+
+	public Type getOp() {
+		return op;
+	}
+
+	public void setOp(Type op) {
+		this.op = op;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public Long getEventId() {
+		return eventId;
+	}
+
+	public void setEventId(Long eventId) {
+		this.eventId = eventId;
+	}
+
+	public JsonNode getBody() {
+		return body;
+	}
+
+	public void setBody(JsonNode body) {
+		this.body = body;
+	}
+}
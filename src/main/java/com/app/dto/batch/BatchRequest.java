@@ -0,0 +1,41 @@
+package com.app.dto.batch;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+/**
+ * DTO for POST /api/batch: operations applied in order for one user.
+ */
+public class BatchRequest {
+
+	public enum Mode {
+		/** One transaction; the first failing operation rolls back all of them. */
+		ALL_OR_NOTHING,
+		/** Each operation commits on its own; failures do not stop the batch. */
+		BEST_EFFORT
+	}
+
+	private Mode mode = Mode.ALL_OR_NOTHING;
+
+	@NotEmpty(message = "Operations are required")
+	@Valid
+	private List<BatchOperation> operations;
+
+	public Mode getMode() {
+		return mode;
+	}
+
+	public void setMode(Mode mode) {
+		this.mode = mode != null ? mode : Mode.ALL_OR_NOTHING;
+	}
+
+	public List<BatchOperation> getOperations() {
+		return operations;
+	}
+
+	public void setOperations(List<BatchOperation> operations) {
+		this.operations = operations;
+	}
+}
@@ -0,0 +1,32 @@
+package com.app.dto.batch;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a batch: one result per operation, in request order.
+ * committed is false when an ALL_OR_NOTHING batch was rolled back.
+ */
+public class BatchResponse {
+
+	private BatchRequest.Mode mode;
+	private boolean committed;
+	private List<BatchResult> results;
+
+	public BatchResponse(BatchRequest.Mode mode, boolean committed, List<BatchResult> results) {
+		this.mode = mode;
+		this.committed = committed;
+		this.results = results;
+	}
+
+	public BatchRequest.Mode getMode() {
+		return mode;
+	}
+
+	public boolean isCommitted() {
+		return committed;
+	}
+
+	public List<BatchResult> getResults() {
+		return results;
+	}
+}
@@ -0,0 +1,49 @@
+package com.app.dto.batch;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * The outcome of one batch operation: the status and body its REST endpoint
+ * would have returned, or a message for failed and rolled back operations.
+ */
+public class BatchResult {
+
+	private int index;
+	private int status;
+	private Object body;
+
+	@JsonIgnore
+	private Long worldId;
+
+	public BatchResult(int index, int status, Object body, Long worldId) {
+		this.index = index;
+		this.status = status;
+		this.body = body;
+		this.worldId = worldId;
+	}
+
+	public static BatchResult failure(int index, int status, String message) {
+		return new BatchResult(index, status, Map.of("message", message), null);
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public int getStatus() {
+		return status;
+	}
+
+	public Object getBody() {
+		return body;
+	}
+
+	/**
+	 * The world the operation touched, for hot-world tracking (null if none).
+	 */
+	public Long getWorldId() {
+		return worldId;
+	}
+}
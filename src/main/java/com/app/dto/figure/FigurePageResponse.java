@@ -4,13 +4,13 @@ import java.util.List;
 
 public class FigurePageResponse {
 
-	private List<FigureResponse> figures;
+	private List<?> figures;
 	private long total;
 	private int page;
 	private int limit;
 	private int totalPages;
 
-	public FigurePageResponse(List<FigureResponse> figures, long total, int page, int limit) {
+	public FigurePageResponse(List<?> figures, long total, int page, int limit) {
 		this.figures = figures;
 		this.total = total;
 		this.page = page;
@@ -18,7 +18,7 @@ public class FigurePageResponse {
 		this.totalPages = (int) Math.ceil((double) total / limit);
 	}
 
-	public List<FigureResponse> getFigures() {
+	public List<?> getFigures() {
 		return figures;
 	}
 
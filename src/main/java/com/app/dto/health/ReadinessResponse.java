@@ -0,0 +1,142 @@
+package com.app.dto.health;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for GET /api/health/ready.
+ *
+ * status is one of: ok, starting, database_unavailable, pool_saturated.
+ */
+public class ReadinessResponse {
+
+	private String status;
+	private DatabaseStatus database;
+	private PoolStatus pool;
+	private List<ExecutorStatus> executors;
+
+	public ReadinessResponse(String status, DatabaseStatus database, PoolStatus pool, List<ExecutorStatus> executors) {
+		this.status = status;
+		this.database = database;
+		this.pool = pool;
+		this.executors = executors;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public DatabaseStatus getDatabase() {
+		return database;
+	}
+
+	public PoolStatus getPool() {
+		return pool;
+	}
+
+	public List<ExecutorStatus> getExecutors() {
+		return executors;
+	}
+
+	public static class DatabaseStatus {
+		private Double latencyMillis;
+		private Instant checkedAt;
+		private String error;
+
+		public DatabaseStatus(Double latencyMillis, Instant checkedAt, String error) {
+			this.latencyMillis = latencyMillis;
+			this.checkedAt = checkedAt;
+			this.error = error;
+		}
+
+		public Double getLatencyMillis() {
+			return latencyMillis;
+		}
+
+		public Instant getCheckedAt() {
+			return checkedAt;
+		}
+
+		public String getError() {
+			return error;
+		}
+	}
+
+	public static class PoolStatus {
+		private int active;
+		private int idle;
+		private int pending;
+		private int max;
+		private double averageWaitMillis;
+		private long timeouts;
+
+		public PoolStatus(int active, int idle, int pending, int max, double averageWaitMillis, long timeouts) {
+			this.active = active;
+			this.idle = idle;
+			this.pending = pending;
+			this.max = max;
+			this.averageWaitMillis = averageWaitMillis;
+			this.timeouts = timeouts;
+		}
+
+		public int getActive() {
+			return active;
+		}
+
+		public int getIdle() {
+			return idle;
+		}
+
+		public int getPending() {
+			return pending;
+		}
+
+		public int getMax() {
+			return max;
+		}
+
+		public double getAverageWaitMillis() {
+			return averageWaitMillis;
+		}
+
+		public long getTimeouts() {
+			return timeouts;
+		}
+	}
+
+	public static class ExecutorStatus {
+		private String name;
+		private int active;
+		private int poolSize;
+		private int maxPoolSize;
+		private int queued;
+
+		public ExecutorStatus(String name, int active, int poolSize, int maxPoolSize, int queued) {
+			this.name = name;
+			this.active = active;
+			this.poolSize = poolSize;
+			this.maxPoolSize = maxPoolSize;
+			this.queued = queued;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public int getActive() {
+			return active;
+		}
+
+		public int getPoolSize() {
+			return poolSize;
+		}
+
+		public int getMaxPoolSize() {
+			return maxPoolSize;
+		}
+
+		public int getQueued() {
+			return queued;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.app.dto.world;
+
+import java.util.List;
+import java.util.Map;
+
+import com.app.dto.event.EventResponse;
+import com.app.dto.figure.FigureResponse;
+import com.app.model.FigureType;
+import com.app.model.Importance;
+
+/**
+ * DTO for everything the UI needs to open a world: the world, the first
+ * events of its timeline, its first figures and its counts.
+ */
+public class WorldDashboardResponse {
+
+	private WorldResponse world;
+	private List<EventResponse> events;
+	private List<FigureResponse> figures;
+	private long eventCount;
+	private long figureCount;
+	private Map<Importance, Long> eventsByImportance;
+	private Map<FigureType, Long> figuresByType;
+
+	public WorldDashboardResponse(WorldResponse world, List<EventResponse> events, List<FigureResponse> figures,
+			long eventCount, long figureCount, Map<Importance, Long> eventsByImportance,
+			Map<FigureType, Long> figuresByType) {
+		this.world = world;
+		this.events = events;
+		this.figures = figures;
+		this.eventCount = eventCount;
+		this.figureCount = figureCount;
+		this.eventsByImportance = eventsByImportance;
+		this.figuresByType = figuresByType;
+	}
+
+	public WorldResponse getWorld() {
+		return world;
+	}
+
+	/**
+	 * The first events in timeline order, as GET /api/events.
+	 */
+	public List<EventResponse> getEvents() {
+		return events;
+	}
+
+	/**
+	 * The first figures in creation order, as GET /api/figures.
+	 */
+	public List<FigureResponse> getFigures() {
+		return figures;
+	}
+
+	/**
+	 * All events of the world, including those without an importance.
+	 */
+	public long getEventCount() {
+		return eventCount;
+	}
+
+	public long getFigureCount() {
+		return figureCount;
+	}
+
+	/**
+	 * Every importance, 0 if the world has none of it.
+	 */
+	public Map<Importance, Long> getEventsByImportance() {
+		return eventsByImportance;
+	}
+
+	/**
+	 * Every figure type, 0 if the world has none of it.
+	 */
+	public Map<FigureType, Long> getFiguresByType() {
+		return figuresByType;
+	}
+}
@@ -20,8 +20,33 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", ex.getMessage()));
 	}
 
+	@ExceptionHandler(InvalidFigureTypeException.class)
+	public ResponseEntity<Map<String, String>> handleInvalidFigureTypeException(InvalidFigureTypeException ex) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", ex.getMessage()));
+	}
+
 	@ExceptionHandler(CrossWorldLinkingException.class)
 	public ResponseEntity<Map<String, String>> handleCrossWorldLinkingException(CrossWorldLinkingException ex) {
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", ex.getMessage()));
 	}
+
+	@ExceptionHandler(InvalidFieldsException.class)
+	public ResponseEntity<Map<String, String>> handleInvalidFieldsException(InvalidFieldsException ex) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", ex.getMessage()));
+	}
+
+	@ExceptionHandler(InvalidBatchException.class)
+	public ResponseEntity<Map<String, String>> handleInvalidBatchException(InvalidBatchException ex) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", ex.getMessage()));
+	}
+
+	@ExceptionHandler(InvalidRecordingException.class)
+	public ResponseEntity<Map<String, String>> handleInvalidRecordingException(InvalidRecordingException ex) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", ex.getMessage()));
+	}
+
+	@ExceptionHandler(RecordingConflictException.class)
+	public ResponseEntity<Map<String, String>> handleRecordingConflictException(RecordingConflictException ex) {
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", ex.getMessage()));
+	}
 }
@@ -0,0 +1,29 @@
+package com.app.exception;
+
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+
+import com.app.service.FigureNotFoundException;
+
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * GraphQL counterpart of GlobalExceptionHandler: expected exceptions become
+ * errors with their message and the field resolves to null. Anything else is
+ * reported by Spring as INTERNAL_ERROR without details.
+ */
+@Component
+public class GraphQlExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+	@Override
+	protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+		if (ex instanceof WorldNotFoundException || ex instanceof EventNotFoundException
+				|| ex instanceof FigureNotFoundException) {
+			return GraphqlErrorBuilder.newError(env).errorType(ErrorType.NOT_FOUND).message(ex.getMessage()).build();
+		}
+		return null;
+	}
+}
@@ -0,0 +1,8 @@
+package com.app.exception;
+
+public class InvalidFieldsException extends RuntimeException {
+
+	public InvalidFieldsException(String message) {
+		super(message);
+	}
+}
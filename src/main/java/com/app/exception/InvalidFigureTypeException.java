@@ -0,0 +1,8 @@
+package com.app.exception;
+
+public class InvalidFigureTypeException extends RuntimeException {
+
+	public InvalidFigureTypeException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,8 @@
+package com.app.exception;
+
+public class InvalidRecordingException extends RuntimeException {
+
+	public InvalidRecordingException(String message) {
+		super(message);
+	}
+}
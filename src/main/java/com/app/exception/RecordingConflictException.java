@@ -0,0 +1,8 @@
+package com.app.exception;
+
+public class RecordingConflictException extends RuntimeException {
+
+	public RecordingConflictException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,106 @@
+package com.app.filter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.sun.management.ThreadMXBean;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Allocation Filter
+ *
+ * Responsibilities:
+ * - Measures the heap bytes the request thread allocates while handling a
+ * request (ThreadMXBean thread allocated bytes, read before and after)
+ * - Records them per endpoint (http.request.allocated, in bytes)
+ * - Logs a warning and increments http.request.allocation.exceeded when a
+ * request allocates more than allocation.warn-bytes
+ *
+ * Allocations on other threads (e.g. async work) are not counted. Disabled
+ * automatically if the JVM cannot measure per-thread allocation. Requests on
+ * virtual threads (spring.threads.virtual.enabled) are skipped: the JVM does
+ * not measure their allocations.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 15)
+public class AllocationFilter extends OncePerRequestFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(AllocationFilter.class);
+
+	private final MeterRegistry meterRegistry;
+	private final ThreadMXBean threadMXBean;
+	private final boolean enabled;
+	private final long warnBytes;
+
+	public AllocationFilter(MeterRegistry meterRegistry,
+			@Value("${allocation.enabled:true}") boolean enabled,
+			@Value("${allocation.warn-bytes:67108864}") long warnBytes) {
+		this.meterRegistry = meterRegistry;
+		this.threadMXBean = ManagementFactory.getThreadMXBean() instanceof ThreadMXBean bean
+				&& bean.isThreadAllocatedMemorySupported() ? bean : null;
+		this.enabled = enabled && threadMXBean != null && threadMXBean.isThreadAllocatedMemoryEnabled();
+		this.warnBytes = warnBytes;
+		if (enabled && !this.enabled) {
+			logger.info("Per-request allocation accounting unavailable in this JVM");
+		}
+	}
+
+	@Override
+	protected boolean shouldNotFilter(@org.springframework.lang.NonNull HttpServletRequest request) {
+		return !enabled;
+	}
+
+	@Override
+	protected void doFilterInternal(@org.springframework.lang.NonNull HttpServletRequest request,
+			@org.springframework.lang.NonNull HttpServletResponse response,
+			@org.springframework.lang.NonNull FilterChain filterChain)
+			throws ServletException, IOException {
+
+		long before = threadMXBean.getCurrentThreadAllocatedBytes();
+		if (before < 0) {
+			// Not measured for this thread (virtual threads report -1)
+			filterChain.doFilter(request, response);
+			return;
+		}
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			record(request, response, threadMXBean.getCurrentThreadAllocatedBytes() - before);
+		}
+	}
+
+	private void record(HttpServletRequest request, HttpServletResponse response, long allocatedBytes) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+		String method = request.getMethod();
+
+		DistributionSummary.builder("http.request.allocated")
+				.description("Heap bytes allocated by the request thread")
+				.baseUnit(BaseUnits.BYTES)
+				.tags("method", method, "uri", uri)
+				.register(meterRegistry)
+				.record(allocatedBytes);
+
+		if (allocatedBytes > warnBytes) {
+			meterRegistry.counter("http.request.allocation.exceeded", "method", method, "uri", uri).increment();
+			logger.warn("Request allocated {} KiB (limit {} KiB): {} {} status={}", allocatedBytes / 1024,
+					warnBytes / 1024, method, uri, response.getStatus());
+		}
+	}
+}
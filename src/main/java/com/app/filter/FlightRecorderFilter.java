@@ -0,0 +1,62 @@
+package com.app.filter;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.app.jdbc.SqlStatementStats;
+import com.app.profiling.HttpRequestEvent;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Flight Recorder Filter
+ *
+ * Responsibilities:
+ * - Emits an HttpRequestEvent per request while a flight recording is
+ * running (see FlightRecorderService); otherwise it only checks whether the
+ * event is enabled
+ *
+ * Outermost filter, so the event spans the whole request.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FlightRecorderFilter extends OncePerRequestFilter {
+
+	@Override
+	protected void doFilterInternal(@org.springframework.lang.NonNull HttpServletRequest request,
+			@org.springframework.lang.NonNull HttpServletResponse response,
+			@org.springframework.lang.NonNull FilterChain filterChain)
+			throws ServletException, IOException {
+
+		HttpRequestEvent event = new HttpRequestEvent();
+		if (!event.isEnabled()) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		event.begin();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			event.end();
+			if (event.shouldCommit()) {
+				Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+				event.method = request.getMethod();
+				event.uri = pattern != null ? pattern.toString() : request.getRequestURI();
+				event.status = response.getStatus();
+				if (request.getAttribute(SqlStatementStats.REQUEST_ATTRIBUTE) instanceof SqlStatementStats stats) {
+					event.sqlStatements = stats.getStatements();
+				}
+				event.commit();
+			}
+		}
+	}
+}
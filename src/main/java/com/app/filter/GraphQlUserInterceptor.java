@@ -0,0 +1,49 @@
+package com.app.filter;
+
+import java.util.Map;
+
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.app.model.User;
+import com.app.service.AuthService;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Looks up the authenticated user once per GraphQL request, on the request
+ * thread, and puts it in the GraphQL context as "currentUser" for the
+ * GraphQlController data fetchers and batch loaders (@ContextValue).
+ *
+ * Batch loaders of nested levels are dispatched from completion callbacks,
+ * where the request's security context is not reliably available, so they
+ * must not resolve the user themselves.
+ */
+@Component
+public class GraphQlUserInterceptor implements WebGraphQlInterceptor {
+
+	public static final String CURRENT_USER = "currentUser";
+
+	private final AuthService authService;
+
+	public GraphQlUserInterceptor(AuthService authService) {
+		this.authService = authService;
+	}
+
+	@Override
+	public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof UserDetails userDetails) {
+			User currentUser = authService.getUserByEmail(userDetails.getUsername());
+			request.configureExecutionInput((input, builder) -> builder
+					.graphQLContext(Map.of(CURRENT_USER, currentUser))
+					.build());
+		}
+		return chain.next(request);
+	}
+}
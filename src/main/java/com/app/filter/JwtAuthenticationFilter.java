@@ -10,7 +10,10 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.app.profiling.AuthenticationEvent;
 import com.app.service.JwtService;
+import com.app.timing.RequestTimer;
+import com.app.timing.RequestTimer.Phase;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -25,6 +28,7 @@ import jakarta.servlet.http.HttpServletResponse;
  * - Validates JWT token
  * - Loads user from database
  * - Attaches user to Spring Security context
+ * - Emits an AuthenticationEvent while a flight recording is running
  * 
  * This enables the use of @AuthenticationPrincipal in controllers.
  */
@@ -61,16 +65,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		// Extract token (remove "Bearer " prefix)
 		String token = authHeader.substring(BEARER_PREFIX.length());
 
-		// Validate token
-		if (!jwtService.validateToken(token)) {
+		AuthenticationEvent event = new AuthenticationEvent();
+		event.begin();
+
+		// Validate token and extract email
+		String email;
+		long jwtStart = RequestTimer.begin(Phase.JWT);
+		try {
+			email = jwtService.validateToken(token) ? jwtService.extractEmail(token) : null;
+		} catch (Exception e) {
+			email = null;
+		} finally {
+			RequestTimer.end(Phase.JWT, jwtStart);
+		}
+		if (email == null) {
+			commit(event, AuthenticationEvent.INVALID_TOKEN);
 			filterChain.doFilter(request, response);
 			return;
 		}
 
 		try {
-			// Extract email from token
-			String email = jwtService.extractEmail(token);
-
 			// Load user details
 			UserDetails userDetails = userDetailsService.loadUserByUsername(email);
 
@@ -82,14 +96,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 			// Set authentication in SecurityContext
 			SecurityContextHolder.getContext().setAuthentication(authentication);
+			commit(event, AuthenticationEvent.AUTHENTICATED);
 
 		} catch (Exception e) {
 			// If anything goes wrong (invalid token, user not found, etc.),
 			// continue without authentication
 			// The request will be handled as unauthenticated
+			commit(event, AuthenticationEvent.USER_NOT_FOUND);
 		}
 
 		// Continue filter chain
 		filterChain.doFilter(request, response);
 	}
+
+	private static void commit(AuthenticationEvent event, String outcome) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.outcome = outcome;
+			event.commit();
+		}
+	}
 }
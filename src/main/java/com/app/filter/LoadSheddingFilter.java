@@ -0,0 +1,92 @@
+package com.app.filter;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.app.health.PoolWaitTracker;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Load Shedding Filter
+ *
+ * Responsibilities:
+ * - Rejects non-critical requests with 503 + Retry-After while the average
+ * connection pool wait is above load-shedding.max-pool-wait-ms
+ * - Always lets critical routes (load-shedding.critical-paths) through
+ *
+ * Runs before JWT authentication, so shed requests never reach the database.
+ * Failing fast keeps the pool free for the requests that are admitted
+ * instead of letting everything queue until it times out.
+ */
+@Component
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(LoadSheddingFilter.class);
+	private static final String BODY = "{\"message\":\"Server is overloaded, please retry shortly\"}";
+
+	private final PoolWaitTracker poolWaitTracker;
+	private final boolean enabled;
+	private final double maxPoolWaitMillis;
+	private final List<String> criticalPaths;
+	private final String retryAfterSeconds;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+	public LoadSheddingFilter(PoolWaitTracker poolWaitTracker,
+			@Value("${load-shedding.enabled:true}") boolean enabled,
+			@Value("${load-shedding.max-pool-wait-ms:250}") double maxPoolWaitMillis,
+			@Value("${load-shedding.critical-paths:/api/health/**,/api/login,/api/register,/api/admin/**,/actuator/**}") List<String> criticalPaths,
+			@Value("${load-shedding.retry-after-seconds:2}") int retryAfterSeconds) {
+		this.poolWaitTracker = poolWaitTracker;
+		this.enabled = enabled;
+		this.maxPoolWaitMillis = maxPoolWaitMillis;
+		this.criticalPaths = criticalPaths;
+		this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+	}
+
+	@Override
+	protected void doFilterInternal(@org.springframework.lang.NonNull HttpServletRequest request,
+			@org.springframework.lang.NonNull HttpServletResponse response,
+			@org.springframework.lang.NonNull FilterChain filterChain)
+			throws ServletException, IOException {
+
+		if (!enabled || isCritical(request.getRequestURI())) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		double averageWait = poolWaitTracker.averageWaitMillis();
+		if (averageWait <= maxPoolWaitMillis) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		logger.debug("Shedding {} {} (average pool wait {} ms)", request.getMethod(), request.getRequestURI(),
+				Math.round(averageWait));
+		response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+		response.setHeader("Retry-After", retryAfterSeconds);
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.getWriter().write(BODY);
+	}
+
+	private boolean isCritical(String path) {
+		for (String pattern : criticalPaths) {
+			if (pathMatcher.match(pattern, path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
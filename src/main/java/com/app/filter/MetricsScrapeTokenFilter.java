@@ -0,0 +1,66 @@
+package com.app.filter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Metrics Scrape Token Filter
+ *
+ * Responsibilities:
+ * - Lets a Prometheus scraper read /actuator/prometheus with a static
+ * Authorization: Bearer <metrics.scrape-token> header (ROLE_METRICS)
+ * - Does nothing when no scrape token is configured (admins can still use
+ * their JWT)
+ *
+ * Scrapers cannot refresh 7-day JWTs, hence the separate token.
+ */
+@Component
+public class MetricsScrapeTokenFilter extends OncePerRequestFilter {
+
+	private static final String AUTHORIZATION_HEADER = "Authorization";
+	private static final String BEARER_PREFIX = "Bearer ";
+	private static final String PROMETHEUS_PATH = "/actuator/prometheus";
+
+	private final byte[] scrapeToken;
+
+	public MetricsScrapeTokenFilter(@Value("${metrics.scrape-token:}") String scrapeToken) {
+		this.scrapeToken = scrapeToken.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	protected boolean shouldNotFilter(@org.springframework.lang.NonNull HttpServletRequest request) {
+		return scrapeToken.length == 0 || !PROMETHEUS_PATH.equals(request.getRequestURI());
+	}
+
+	@Override
+	protected void doFilterInternal(@org.springframework.lang.NonNull HttpServletRequest request,
+			@org.springframework.lang.NonNull HttpServletResponse response,
+			@org.springframework.lang.NonNull FilterChain filterChain)
+			throws ServletException, IOException {
+
+		String authHeader = request.getHeader(AUTHORIZATION_HEADER);
+		if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+			byte[] presented = authHeader.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8);
+			// Constant-time comparison
+			if (MessageDigest.isEqual(presented, scrapeToken)) {
+				SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+						"metrics-scraper", null, AuthorityUtils.createAuthorityList("ROLE_METRICS")));
+			}
+		}
+
+		filterChain.doFilter(request, response);
+	}
+}
@@ -0,0 +1,85 @@
+package com.app.filter;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.app.jdbc.SqlStatementStats;
+import com.app.timing.RequestTimer;
+import com.app.timing.ServerTiming;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Request Timing Filter
+ *
+ * Responsibilities:
+ * - Binds a RequestTimer to the request thread (phases: jwt, user, mapping,
+ * serialization; db comes from SqlStatementStats)
+ * - Sends the breakdown as a Server-Timing header when
+ * request-timing.server-timing-header is on (JSON bodies get it from
+ * TimedJackson2HttpMessageConverter, since the header must precede the body)
+ * - Logs one key=value line for requests slower than
+ * request-timing.slow-request-ms
+ *
+ * Runs inside SqlBudgetFilter so the request's SQL statistics are available.
+ * With request-timing.enabled=false no timer is bound and every
+ * instrumentation point is a single ThreadLocal lookup.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(RequestTimingFilter.class);
+
+	private final boolean enabled;
+	private final boolean serverTimingHeader;
+	private final long slowRequestMillis;
+
+	public RequestTimingFilter(@Value("${request-timing.enabled:true}") boolean enabled,
+			@Value("${request-timing.server-timing-header:false}") boolean serverTimingHeader,
+			@Value("${request-timing.slow-request-ms:1000}") long slowRequestMillis) {
+		this.enabled = enabled;
+		this.serverTimingHeader = serverTimingHeader;
+		this.slowRequestMillis = slowRequestMillis;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(@org.springframework.lang.NonNull HttpServletRequest request) {
+		return !enabled;
+	}
+
+	@Override
+	protected void doFilterInternal(@org.springframework.lang.NonNull HttpServletRequest request,
+			@org.springframework.lang.NonNull HttpServletResponse response,
+			@org.springframework.lang.NonNull FilterChain filterChain)
+			throws ServletException, IOException {
+
+		RequestTimer timer = RequestTimer.start(serverTimingHeader);
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			RequestTimer.stop();
+			SqlStatementStats sql = SqlStatementStats.current();
+			if (serverTimingHeader && !response.isCommitted() && !response.containsHeader(ServerTiming.HEADER)) {
+				response.setHeader(ServerTiming.HEADER, ServerTiming.header(timer, sql));
+			}
+			if (timer.elapsedMillis() >= slowRequestMillis) {
+				Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+				logger.warn("Slow request method={} uri={} status={} {}", request.getMethod(),
+						pattern != null ? pattern : request.getRequestURI(), response.getStatus(),
+						ServerTiming.breakdown(timer, sql));
+			}
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package com.app.filter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.app.jdbc.SqlStatementStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * SQL Budget Filter
+ *
+ * Responsibilities:
+ * - Counts SQL statements, fetched rows and database time per request
+ * (see SqlStatementListener)
+ * - Records them per endpoint (sql.request.statements, sql.request.rows,
+ * sql.request.db.time)
+ * - Logs a warning and increments sql.budget.exceeded when a request goes over
+ * one of the sql-budget.* limits, including the same statement running more
+ * than sql-budget.max-repetitions times (N+1)
+ *
+ * Runs before Spring Security so authentication queries are counted too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+	private final int maxStatements;
+	private final int maxRepetitions;
+	private final long maxRows;
+	private final long maxDbTimeMillis;
+
+	public SqlBudgetFilter(MeterRegistry meterRegistry,
+			@Value("${sql-budget.enabled:true}") boolean enabled,
+			@Value("${sql-budget.max-statements:20}") int maxStatements,
+			@Value("${sql-budget.max-repetitions:5}") int maxRepetitions,
+			@Value("${sql-budget.max-rows:1000}") long maxRows,
+			@Value("${sql-budget.max-db-time-ms:500}") long maxDbTimeMillis) {
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+		this.maxStatements = maxStatements;
+		this.maxRepetitions = maxRepetitions;
+		this.maxRows = maxRows;
+		this.maxDbTimeMillis = maxDbTimeMillis;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(@org.springframework.lang.NonNull HttpServletRequest request) {
+		return !enabled;
+	}
+
+	@Override
+	protected void doFilterInternal(@org.springframework.lang.NonNull HttpServletRequest request,
+			@org.springframework.lang.NonNull HttpServletResponse response,
+			@org.springframework.lang.NonNull FilterChain filterChain)
+			throws ServletException, IOException {
+
+		SqlStatementStats stats = SqlStatementStats.start();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			SqlStatementStats.stop();
+			request.setAttribute(SqlStatementStats.REQUEST_ATTRIBUTE, stats);
+			record(request, stats);
+		}
+	}
+
+	private void record(HttpServletRequest request, SqlStatementStats stats) {
+		if (stats.getStatements() == 0) {
+			return;
+		}
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+		String method = request.getMethod();
+
+		meterRegistry.summary("sql.request.statements", "method", method, "uri", uri).record(stats.getStatements());
+		meterRegistry.summary("sql.request.rows", "method", method, "uri", uri).record(stats.getRows());
+		meterRegistry.summary("sql.request.db.time", "method", method, "uri", uri).record(stats.getDbTimeMillis());
+
+		List<String> exceeded = new ArrayList<>();
+		if (stats.getStatements() > maxStatements) {
+			exceeded.add("statements");
+		}
+		if (stats.getMaxRepetitions() > maxRepetitions) {
+			exceeded.add("repetitions");
+		}
+		if (stats.getRows() > maxRows) {
+			exceeded.add("rows");
+		}
+		if (stats.getDbTimeMillis() > maxDbTimeMillis) {
+			exceeded.add("db_time");
+		}
+		if (exceeded.isEmpty()) {
+			return;
+		}
+
+		for (String budget : exceeded) {
+			meterRegistry.counter("sql.budget.exceeded", "method", method, "uri", uri, "budget", budget).increment();
+		}
+		logger.warn("SQL budget exceeded ({}) by {} {}: {} statements, {} rows, {} ms; most repeated ({}x): {}",
+				String.join(", ", exceeded), method, uri, stats.getStatements(), stats.getRows(),
+				stats.getDbTimeMillis(), stats.getMaxRepetitions(), stats.getMostRepeatedStatement());
+	}
+}
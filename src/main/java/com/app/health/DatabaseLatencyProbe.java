@@ -0,0 +1,93 @@
+package com.app.health;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Instant;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * Measures the database round trip in the background so health checks never
+ * touch the database themselves.
+ *
+ * The probe is skipped while the pool has no idle connection and threads are
+ * already waiting: it would only add to the queue, and readiness reports the
+ * saturation anyway.
+ */
+@Component
+public class DatabaseLatencyProbe {
+
+	private static final Logger logger = LoggerFactory.getLogger(DatabaseLatencyProbe.class);
+
+	private final DataSource dataSource;
+	private final PoolWaitTracker poolWaitTracker;
+	private final int queryTimeoutSeconds;
+	private volatile Result latest;
+
+	public DatabaseLatencyProbe(DataSource dataSource, PoolWaitTracker poolWaitTracker,
+			@Value("${health.db.query-timeout-seconds:2}") int queryTimeoutSeconds) {
+		this.dataSource = dataSource;
+		this.poolWaitTracker = poolWaitTracker;
+		this.queryTimeoutSeconds = queryTimeoutSeconds;
+	}
+
+	@Scheduled(fixedDelayString = "${health.db.probe-interval-ms:5000}")
+	public void probe() {
+		PoolStats pool = poolWaitTracker.getPoolStats();
+		if (pool != null && pool.getIdleConnections() == 0 && pool.getPendingThreads() > 0) {
+			return;
+		}
+
+		try (Connection connection = dataSource.getConnection();
+				Statement statement = connection.createStatement()) {
+			statement.setQueryTimeout(queryTimeoutSeconds);
+			long start = System.nanoTime();
+			statement.execute("SELECT 1");
+			latest = new Result((System.nanoTime() - start) / 1_000_000.0, Instant.now(), null);
+		} catch (Exception e) {
+			if (latest == null || latest.getError() == null) {
+				logger.warn("Database health probe failed: {}", e.getMessage());
+			}
+			latest = new Result(-1, Instant.now(), e.getMessage());
+		}
+	}
+
+	/**
+	 * Latest probe result, or null if no probe has finished yet.
+	 */
+	public Result latest() {
+		return latest;
+	}
+
+	public static final class Result {
+		private final double latencyMillis;
+		private final Instant checkedAt;
+		private final String error;
+
+		Result(double latencyMillis, Instant checkedAt, String error) {
+			this.latencyMillis = latencyMillis;
+			this.checkedAt = checkedAt;
+			this.error = error;
+		}
+
+		public double getLatencyMillis() {
+			return latencyMillis;
+		}
+
+		public Instant getCheckedAt() {
+			return checkedAt;
+		}
+
+		public String getError() {
+			return error;
+		}
+	}
+}
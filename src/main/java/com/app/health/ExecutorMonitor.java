@@ -0,0 +1,65 @@
+package com.app.health;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.app.dto.health.ReadinessResponse.ExecutorStatus;
+
+/**
+ * Reports thread and queue usage of the request executor (Tomcat) and of the
+ * Spring task executors and schedulers.
+ *
+ * With spring.threads.virtual.enabled these are virtual-thread executors with
+ * no pool or queue, so they are not listed; see /api/admin/virtual-threads.
+ */
+@Component
+public class ExecutorMonitor {
+
+	private final ListableBeanFactory beanFactory;
+	private volatile Executor webExecutor;
+
+	public ExecutorMonitor(ListableBeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
+	@EventListener
+	public void onWebServerInitialized(WebServerInitializedEvent event) {
+		if (event.getWebServer() instanceof TomcatWebServer tomcat) {
+			webExecutor = tomcat.getTomcat().getConnector().getProtocolHandler().getExecutor();
+		}
+	}
+
+	public List<ExecutorStatus> snapshot() {
+		List<ExecutorStatus> statuses = new ArrayList<>();
+		if (webExecutor instanceof org.apache.tomcat.util.threads.ThreadPoolExecutor tomcat) {
+			statuses.add(new ExecutorStatus("http", tomcat.getActiveCount(), tomcat.getPoolSize(),
+					tomcat.getMaximumPoolSize(), tomcat.getQueue().size()));
+		}
+
+		for (Map.Entry<String, ThreadPoolTaskExecutor> entry : beanFactory
+				.getBeansOfType(ThreadPoolTaskExecutor.class, false, false).entrySet()) {
+			ThreadPoolTaskExecutor executor = entry.getValue();
+			statuses.add(new ExecutorStatus(entry.getKey(), executor.getActiveCount(), executor.getPoolSize(),
+					executor.getMaxPoolSize(), executor.getQueueSize()));
+		}
+
+		for (Map.Entry<String, ThreadPoolTaskScheduler> entry : beanFactory
+				.getBeansOfType(ThreadPoolTaskScheduler.class, false, false).entrySet()) {
+			ThreadPoolTaskScheduler scheduler = entry.getValue();
+			int queued = scheduler.getScheduledThreadPoolExecutor().getQueue().size();
+			statuses.add(new ExecutorStatus(entry.getKey(), scheduler.getActiveCount(), scheduler.getPoolSize(),
+					scheduler.getScheduledThreadPoolExecutor().getMaximumPoolSize(), queued));
+		}
+		return statuses;
+	}
+}
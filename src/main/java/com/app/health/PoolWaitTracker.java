@@ -0,0 +1,96 @@
+package com.app.health;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * Tracks how long requests wait for a pooled connection.
+ *
+ * Registered as Hikari's metrics tracker factory (see AppConfig). Keeps an
+ * exponentially weighted moving average of connection acquire times that
+ * also decays with time since the last sample, so a spike stops counting once
+ * traffic to the pool dies down (for example because load is being shed).
+ */
+@Component
+public class PoolWaitTracker implements MetricsTrackerFactory {
+
+	private static final double ALPHA = 0.2;
+
+	private final long halfLifeNanos;
+	private final LongAdder timeouts = new LongAdder();
+	private volatile PoolStats poolStats;
+	// Taken on every connection checkout: a lock, not a monitor, so a
+	// contended virtual thread does not pin its carrier
+	private final ReentrantLock lock = new ReentrantLock();
+	private double averageWaitNanos;
+	private long lastSampleNanos;
+
+	public PoolWaitTracker(@Value("${health.pool.wait-half-life-ms:5000}") long halfLifeMs) {
+		this.halfLifeNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, halfLifeMs));
+	}
+
+	@Override
+	public IMetricsTracker create(String poolName, PoolStats poolStats) {
+		this.poolStats = poolStats;
+		return new IMetricsTracker() {
+			@Override
+			public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+				recordWait(elapsedAcquiredNanos);
+			}
+
+			@Override
+			public void recordConnectionTimeout() {
+				timeouts.increment();
+			}
+		};
+	}
+
+	void recordWait(long waitNanos) {
+		lock.lock();
+		try {
+			long now = System.nanoTime();
+			averageWaitNanos = decayed(now) * (1 - ALPHA) + waitNanos * ALPHA;
+			lastSampleNanos = now;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Recent average connection wait in milliseconds.
+	 */
+	public double averageWaitMillis() {
+		lock.lock();
+		try {
+			return decayed(System.nanoTime()) / 1_000_000.0;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private double decayed(long now) {
+		if (lastSampleNanos == 0) {
+			return 0;
+		}
+		return averageWaitNanos * Math.pow(0.5, (double) (now - lastSampleNanos) / halfLifeNanos);
+	}
+
+	public long getTimeouts() {
+		return timeouts.sum();
+	}
+
+	/**
+	 * Pool counters, or null before the pool has started.
+	 */
+	public PoolStats getPoolStats() {
+		return poolStats;
+	}
+}
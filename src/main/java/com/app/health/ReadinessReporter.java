@@ -0,0 +1,79 @@
+package com.app.health;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.stereotype.Component;
+
+import com.app.dto.health.ReadinessResponse;
+import com.app.dto.health.ReadinessResponse.DatabaseStatus;
+import com.app.dto.health.ReadinessResponse.PoolStatus;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * Decides whether this node should receive traffic.
+ *
+ * Not ready while:
+ * - startup (including warm-up) has not finished
+ * - the last database probe failed or is older than health.db.stale-after-ms
+ * - the average connection wait exceeds health.pool.unready-wait-ms
+ *
+ * Only cached values are used, so readiness checks stay cheap under load.
+ */
+@Component
+public class ReadinessReporter {
+
+	private final ApplicationAvailability applicationAvailability;
+	private final DatabaseLatencyProbe databaseLatencyProbe;
+	private final PoolWaitTracker poolWaitTracker;
+	private final ExecutorMonitor executorMonitor;
+	private final Duration staleAfter;
+	private final double unreadyWaitMillis;
+
+	public ReadinessReporter(ApplicationAvailability applicationAvailability,
+			DatabaseLatencyProbe databaseLatencyProbe, PoolWaitTracker poolWaitTracker,
+			ExecutorMonitor executorMonitor,
+			@Value("${health.db.stale-after-ms:15000}") long staleAfterMs,
+			@Value("${health.pool.unready-wait-ms:1000}") double unreadyWaitMillis) {
+		this.applicationAvailability = applicationAvailability;
+		this.databaseLatencyProbe = databaseLatencyProbe;
+		this.poolWaitTracker = poolWaitTracker;
+		this.executorMonitor = executorMonitor;
+		this.staleAfter = Duration.ofMillis(staleAfterMs);
+		this.unreadyWaitMillis = unreadyWaitMillis;
+	}
+
+	public ReadinessResponse report() {
+		DatabaseLatencyProbe.Result probe = databaseLatencyProbe.latest();
+		double averageWait = poolWaitTracker.averageWaitMillis();
+
+		String status;
+		if (applicationAvailability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC || probe == null) {
+			status = "starting";
+		} else if (probe.getError() != null || probe.getCheckedAt().plus(staleAfter).isBefore(Instant.now())) {
+			status = "database_unavailable";
+		} else if (averageWait > unreadyWaitMillis) {
+			status = "pool_saturated";
+		} else {
+			status = "ok";
+		}
+
+		DatabaseStatus database = probe == null
+				? new DatabaseStatus(null, null, null)
+				: new DatabaseStatus(probe.getError() == null ? probe.getLatencyMillis() : null, probe.getCheckedAt(),
+						probe.getError());
+		return new ReadinessResponse(status, database, poolStatus(averageWait), executorMonitor.snapshot());
+	}
+
+	private PoolStatus poolStatus(double averageWait) {
+		PoolStats stats = poolWaitTracker.getPoolStats();
+		if (stats == null) {
+			return new PoolStatus(0, 0, 0, 0, averageWait, poolWaitTracker.getTimeouts());
+		}
+		return new PoolStatus(stats.getActiveConnections(), stats.getIdleConnections(), stats.getPendingThreads(),
+				stats.getMaxConnections(), averageWait, poolWaitTracker.getTimeouts());
+	}
+}
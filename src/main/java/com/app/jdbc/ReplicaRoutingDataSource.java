@@ -0,0 +1,222 @@
+package com.app.jdbc;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * Sends read-only transactions to read replicas, everything else to the
+ * primary.
+ *
+ * - Replica selection: round-robin, or the replica with the fewest pending
+ * and active connections
+ * - A replica whose pool fails to hand out a connection is skipped for
+ * retry-after-failure; the request falls back to the primary
+ * - Read-your-writes: after a user's read-write transaction commits, that
+ * user's reads stay on the primary for the configured window. The window is
+ * tracked per node; the cache TTL bounds what another node can serve.
+ *
+ * The routing decision needs the transaction's read-only flag, which Spring
+ * only sets after the transaction manager asked for a connection, so this
+ * must be used through {@link #lazy()}.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+	public enum Selection {
+		ROUND_ROBIN, LEAST_PENDING
+	}
+
+	private final HikariDataSource primary;
+	private final List<Replica> replicas;
+	private final Selection selection;
+	private final long readYourWritesNanos;
+	private final long retryAfterFailureNanos;
+	private final AtomicInteger nextReplica = new AtomicInteger();
+	private final Map<String, Long> recentWriters = new ConcurrentHashMap<>();
+
+	public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, Selection selection,
+			long readYourWritesMs, long retryAfterFailureMs) {
+		this.primary = primary;
+		this.replicas = replicas.stream().map(Replica::new).toList();
+		this.selection = selection;
+		this.readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesMs);
+		this.retryAfterFailureNanos = TimeUnit.MILLISECONDS.toNanos(retryAfterFailureMs);
+	}
+
+	/**
+	 * The DataSource to hand to JPA: defers choosing the target until the
+	 * first statement, and closes all pools on shutdown.
+	 */
+	public DataSource lazy() {
+		return new LazyRoutingProxy(this);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			trackWrite();
+			return primary.getConnection();
+		}
+		if (recentlyWrote(currentUser())) {
+			return primary.getConnection();
+		}
+
+		Replica replica = selectReplica();
+		if (replica == null) {
+			return primary.getConnection();
+		}
+		try {
+			return replica.dataSource.getConnection();
+		} catch (SQLException e) {
+			replica.unhealthyUntilNanos = System.nanoTime() + retryAfterFailureNanos;
+			logger.warn("Replica pool '{}' unavailable, reading from primary: {}", replica.dataSource.getPoolName(),
+					e.getMessage());
+			return primary.getConnection();
+		}
+	}
+
+	/**
+	 * Pooled connections are opened with each pool's configured credentials, so
+	 * only those route like {@link #getConnection()}; other credentials go to
+	 * the primary pool, which decides whether it supports them.
+	 */
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		if (Objects.equals(username, primary.getUsername()) && Objects.equals(password, primary.getPassword())) {
+			return getConnection();
+		}
+		return primary.getConnection(username, password);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		return iface.isInstance(this) ? (T) this : primary.unwrap(iface);
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return iface.isInstance(this) || primary.isWrapperFor(iface);
+	}
+
+	private Replica selectReplica() {
+		long now = System.nanoTime();
+		List<Replica> healthy = new ArrayList<>(replicas.size());
+		for (Replica replica : replicas) {
+			if (now - replica.unhealthyUntilNanos >= 0) {
+				healthy.add(replica);
+			}
+		}
+		if (healthy.isEmpty()) {
+			return null;
+		}
+		if (selection == Selection.LEAST_PENDING) {
+			return healthy.stream().min(Comparator.comparingInt(Replica::load)).get();
+		}
+		return healthy.get(Math.floorMod(nextReplica.getAndIncrement(), healthy.size()));
+	}
+
+	private void trackWrite() {
+		if (readYourWritesNanos <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		String user = currentUser();
+		if (user == null) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				long now = System.nanoTime();
+				recentWriters.put(user, now + readYourWritesNanos);
+				if (recentWriters.size() > 10_000) {
+					recentWriters.values().removeIf(until -> now - until > 0);
+				}
+			}
+		});
+	}
+
+	private boolean recentlyWrote(String user) {
+		if (user == null) {
+			return false;
+		}
+		Long until = recentWriters.get(user);
+		if (until == null) {
+			return false;
+		}
+		if (System.nanoTime() - until > 0) {
+			recentWriters.remove(user, until);
+			return false;
+		}
+		return true;
+	}
+
+	private static String currentUser() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+	}
+
+	@Override
+	public void close() {
+		for (Replica replica : replicas) {
+			replica.dataSource.close();
+		}
+		primary.close();
+	}
+
+	private static final class Replica {
+		private final HikariDataSource dataSource;
+		private volatile long unhealthyUntilNanos = System.nanoTime();
+
+		private Replica(HikariDataSource dataSource) {
+			this.dataSource = dataSource;
+		}
+
+		private int load() {
+			HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+			return pool == null ? 0 : pool.getThreadsAwaitingConnection() * 1000 + pool.getActiveConnections();
+		}
+	}
+
+	private static final class LazyRoutingProxy extends LazyConnectionDataSourceProxy implements Closeable {
+
+		private final ReplicaRoutingDataSource routing;
+
+		private LazyRoutingProxy(ReplicaRoutingDataSource routing) {
+			super(routing);
+			this.routing = routing;
+			// Avoid fetching a connection just to learn the defaults
+			setDefaultAutoCommit(true);
+			setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+		}
+
+		@Override
+		public void close() {
+			routing.close();
+		}
+	}
+}
@@ -0,0 +1,217 @@
+package com.app.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.app.config.VirtualThreads;
+import com.app.dto.admin.SlowQueryResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Recent slow SQL statements and their execution plans.
+ *
+ * SqlStatementListener reports every statement that takes at least
+ * slow-query.threshold-ms. Entries go into a fixed-size ring buffer, newest
+ * overwriting oldest. For the first slow-query.plans-per-shape occurrences of
+ * each statement shape, `EXPLAIN (ANALYZE off, FORMAT JSON)` is run with the
+ * same parameters on a single background thread, on a DataSource that bypasses
+ * the statement listener. The statement is only planned, never executed.
+ *
+ * Plans are captured on PostgreSQL only (see AppConfig). When the explain
+ * queue is full the plan is skipped and a later occurrence may try again. The
+ * explain thread is virtual when spring.threads.virtual.enabled is set (see
+ * VirtualThreads).
+ */
+@Component
+public class SlowQueryLog {
+
+	private static final Logger logger = LoggerFactory.getLogger(SlowQueryLog.class);
+	private static final Pattern EXPLAINABLE = Pattern.compile("^\\s*(select|with|insert|update|delete)\\b",
+			Pattern.CASE_INSENSITIVE);
+	private static final int MAX_TRACKED_SHAPES = 1000;
+	private static final int EXPLAIN_TIMEOUT_SECONDS = 5;
+
+	private final boolean enabled;
+	private final long thresholdMillis;
+	private final int plansPerShape;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Entry[] entries;
+	private long written;
+	private final Map<String, AtomicInteger> plansByShape = new ConcurrentHashMap<>();
+	private final ThreadPoolExecutor explainExecutor;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private volatile DataSource explainDataSource;
+
+	public SlowQueryLog(@Value("${slow-query.enabled:true}") boolean enabled,
+			@Value("${slow-query.threshold-ms:200}") long thresholdMillis,
+			@Value("${slow-query.capacity:200}") int capacity,
+			@Value("${slow-query.plans-per-shape:1}") int plansPerShape,
+			@Value("${slow-query.explain-queue-size:32}") int explainQueueSize,
+			@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		this.enabled = enabled;
+		this.thresholdMillis = thresholdMillis;
+		this.plansPerShape = plansPerShape;
+		this.entries = new Entry[Math.max(1, capacity)];
+		this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, explainQueueSize)),
+				VirtualThreads.threadFactory("slow-query-explain", virtualThreads));
+	}
+
+	/**
+	 * Enables plan capture. The DataSource must not report to the statement
+	 * listener, or slow EXPLAINs would be explained again.
+	 */
+	public void captureExplainPlansWith(DataSource dataSource) {
+		this.explainDataSource = dataSource;
+	}
+
+	public boolean isSlow(long elapsedMillis) {
+		return enabled && elapsedMillis >= thresholdMillis;
+	}
+
+	void record(String shape, String sql, List<ParameterSetOperation> parameters, long elapsedMillis) {
+		Entry entry = new Entry(shape, elapsedMillis, Instant.now(), Thread.currentThread().getName());
+		lock.lock();
+		try {
+			entries[(int) (written++ % entries.length)] = entry;
+		} finally {
+			lock.unlock();
+		}
+		logger.warn("Slow query took {} ms: {}", elapsedMillis, shape);
+
+		if (explainDataSource == null || !EXPLAINABLE.matcher(sql).find() || !claimPlan(shape)) {
+			return;
+		}
+		List<ParameterSetOperation> copy = List.copyOf(parameters);
+		try {
+			explainExecutor.execute(() -> explain(entry, sql, copy));
+		} catch (RejectedExecutionException e) {
+			entry.planError = "explain queue full";
+			plansByShape.get(shape).decrementAndGet();
+		}
+	}
+
+	/**
+	 * Most recent entries first.
+	 */
+	public List<SlowQueryResponse> recent(int limit, boolean sequentialScansOnly) {
+		List<SlowQueryResponse> result = new ArrayList<>();
+		lock.lock();
+		try {
+			for (long i = written - 1; i >= 0 && i >= written - entries.length && result.size() < limit; i--) {
+				Entry entry = entries[(int) (i % entries.length)];
+				if (!sequentialScansOnly || !entry.sequentialScans.isEmpty()) {
+					result.add(entry.toResponse());
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+		return result;
+	}
+
+	private boolean claimPlan(String shape) {
+		if (plansByShape.size() >= MAX_TRACKED_SHAPES && !plansByShape.containsKey(shape)) {
+			return false;
+		}
+		return plansByShape.computeIfAbsent(shape, s -> new AtomicInteger()).incrementAndGet() <= plansPerShape;
+	}
+
+	private void explain(Entry entry, String sql, List<ParameterSetOperation> parameters) {
+		try (Connection connection = explainDataSource.getConnection();
+				PreparedStatement statement = connection
+						.prepareStatement("EXPLAIN (ANALYZE off, FORMAT JSON) " + sql)) {
+			statement.setQueryTimeout(EXPLAIN_TIMEOUT_SECONDS);
+			for (ParameterSetOperation operation : parameters) {
+				operation.getMethod().invoke(statement, operation.getArgs());
+			}
+			try (ResultSet resultSet = statement.executeQuery()) {
+				if (resultSet.next()) {
+					JsonNode plan = objectMapper.readTree(resultSet.getString(1));
+					entry.sequentialScans = sequentialScans(plan);
+					entry.plan = plan;
+				}
+			}
+		} catch (Exception e) {
+			entry.planError = e.getClass().getSimpleName() + ": " + e.getMessage();
+			logger.debug("Could not explain {}", entry.shape, e);
+		}
+	}
+
+	/**
+	 * Tables read with a sequential scan anywhere in a FORMAT JSON plan.
+	 */
+	static List<String> sequentialScans(JsonNode plan) {
+		List<String> relations = new ArrayList<>();
+		collectSequentialScans(plan, relations);
+		return relations;
+	}
+
+	private static void collectSequentialScans(JsonNode node, List<String> relations) {
+		if (node.isArray()) {
+			node.forEach(child -> collectSequentialScans(child, relations));
+			return;
+		}
+		if (!node.isObject()) {
+			return;
+		}
+		if ("Seq Scan".equals(node.path("Node Type").asText()) && node.has("Relation Name")) {
+			relations.add(node.get("Relation Name").asText());
+		}
+		collectSequentialScans(node.path("Plan"), relations);
+		collectSequentialScans(node.path("Plans"), relations);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		explainExecutor.shutdownNow();
+	}
+
+	/**
+	 * Plan fields are filled in later by the explain thread.
+	 */
+	private static final class Entry {
+		private final String shape;
+		private final long elapsedMillis;
+		private final Instant occurredAt;
+		private final String thread;
+		private volatile JsonNode plan;
+		private volatile List<String> sequentialScans = List.of();
+		private volatile String planError;
+
+		private Entry(String shape, long elapsedMillis, Instant occurredAt, String thread) {
+			this.shape = shape;
+			this.elapsedMillis = elapsedMillis;
+			this.occurredAt = occurredAt;
+			this.thread = thread;
+		}
+
+		private SlowQueryResponse toResponse() {
+			return new SlowQueryResponse(shape, elapsedMillis, occurredAt, thread, sequentialScans, plan, planError);
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package com.app.jdbc;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.app.profiling.DatabaseCallEvent;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * JDBC proxy listener that feeds the current thread's SqlStatementStats and,
+ * on any thread, reports slow statements to SlowQueryLog and emits a
+ * DatabaseCallEvent while a flight recording is running.
+ *
+ * Statements are grouped by shape: the SQL text with whitespace collapsed,
+ * literals replaced and IN lists reduced to a single placeholder, so the same
+ * query with different arguments counts as one shape.
+ */
+public class SqlStatementListener implements QueryExecutionListener, MethodExecutionListener {
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+	// Repeated groups recurse once per repetition in java.util.regex, so these
+	// only repeat character classes (or '' escapes) to keep large IN lists and
+	// long literals from overflowing the stack
+	private static final Pattern STRING_LITERAL = Pattern.compile("'[^']*(?:''[^']*)*'");
+	private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?\\s*,[\\s,?]*\\)");
+	private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+	private static final String JFR_EVENT = DatabaseCallEvent.class.getName();
+
+	private final SlowQueryLog slowQueryLog;
+
+	public SqlStatementListener(SlowQueryLog slowQueryLog) {
+		this.slowQueryLog = slowQueryLog;
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		DatabaseCallEvent event = new DatabaseCallEvent();
+		if (event.isEnabled()) {
+			event.begin();
+			execInfo.addCustomValue(JFR_EVENT, event);
+		}
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		DatabaseCallEvent event = execInfo.getCustomValue(JFR_EVENT, DatabaseCallEvent.class);
+		if (event != null) {
+			event.end();
+			if (event.shouldCommit() && !queryInfoList.isEmpty()) {
+				event.statement = shapeOf(queryInfoList.get(0).getQuery());
+				event.batchSize = Math.max(1, execInfo.getBatchSize());
+				event.success = execInfo.isSuccess();
+				event.commit();
+			}
+		}
+
+		SqlStatementStats stats = SqlStatementStats.current();
+		boolean slow = slowQueryLog != null && slowQueryLog.isSlow(execInfo.getElapsedTime());
+		if (stats == null && !slow) {
+			return;
+		}
+		long elapsed = execInfo.getElapsedTime();
+		for (QueryInfo queryInfo : queryInfoList) {
+			String shape = shapeOf(queryInfo.getQuery());
+			if (stats != null) {
+				stats.recordStatement(shape, elapsed);
+			}
+			if (slow) {
+				List<List<ParameterSetOperation>> parameters = queryInfo.getParametersList();
+				slowQueryLog.record(shape, queryInfo.getQuery(), parameters.isEmpty() ? List.of() : parameters.get(0),
+						execInfo.getElapsedTime());
+				// A slow batch is reported once
+				slow = false;
+			}
+			// Batched statements share one elapsed time
+			elapsed = 0;
+		}
+	}
+
+	@Override
+	public void beforeMethod(MethodExecutionContext executionContext) {
+	}
+
+	@Override
+	public void afterMethod(MethodExecutionContext executionContext) {
+		if (executionContext.getTarget() instanceof ResultSet
+				&& "next".equals(executionContext.getMethod().getName())
+				&& Boolean.TRUE.equals(executionContext.getResult())) {
+			SqlStatementStats stats = SqlStatementStats.current();
+			if (stats != null) {
+				stats.recordRow();
+			}
+		}
+	}
+
+	static String shapeOf(String sql) {
+		String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+		shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+		shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+		return IN_LIST.matcher(shape).replaceAll("(?)");
+	}
+}
@@ -0,0 +1,95 @@
+package com.app.jdbc;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statements, rows and database time of one HTTP request.
+ *
+ * Bound to the request thread by SqlBudgetFilter and filled in by
+ * SqlStatementListener. Work done on other threads is not counted unless it
+ * is added back (see add). Not thread-safe: only the owning thread writes to
+ * it.
+ */
+public class SqlStatementStats {
+
+	/** Request attribute holding the finished stats (used by tests and Server-Timing). */
+	public static final String REQUEST_ATTRIBUTE = SqlStatementStats.class.getName();
+
+	private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+	private int statements;
+	private long rows;
+	private long dbTimeMillis;
+	private final Map<String, Integer> statementsByShape = new HashMap<>();
+
+	/**
+	 * Starts counting on the current thread.
+	 */
+	public static SqlStatementStats start() {
+		SqlStatementStats stats = new SqlStatementStats();
+		CURRENT.set(stats);
+		return stats;
+	}
+
+	/**
+	 * Stats of the current thread, or null if nothing is being counted.
+	 */
+	public static SqlStatementStats current() {
+		return CURRENT.get();
+	}
+
+	public static void stop() {
+		CURRENT.remove();
+	}
+
+	void recordStatement(String shape, long elapsedMillis) {
+		statements++;
+		dbTimeMillis += elapsedMillis;
+		statementsByShape.merge(shape, 1, Integer::sum);
+	}
+
+	void recordRow() {
+		rows++;
+	}
+
+	/**
+	 * Adds work done for the same request on another thread, once that
+	 * thread has finished with its own stats.
+	 */
+	public void add(SqlStatementStats other) {
+		statements += other.statements;
+		rows += other.rows;
+		dbTimeMillis += other.dbTimeMillis;
+		other.statementsByShape.forEach((shape, count) -> statementsByShape.merge(shape, count, Integer::sum));
+	}
+
+	public int getStatements() {
+		return statements;
+	}
+
+	public long getRows() {
+		return rows;
+	}
+
+	public long getDbTimeMillis() {
+		return dbTimeMillis;
+	}
+
+	/**
+	 * The statement shape executed most often, or null if none ran.
+	 */
+	public String getMostRepeatedStatement() {
+		return statementsByShape.entrySet().stream()
+				.max(Map.Entry.comparingByValue())
+				.map(Map.Entry::getKey)
+				.orElse(null);
+	}
+
+	/**
+	 * How often the most repeated statement shape ran (N in an N+1).
+	 */
+	public int getMaxRepetitions() {
+		return statementsByShape.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+	}
+}
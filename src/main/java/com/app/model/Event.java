@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
@@ -16,7 +17,9 @@ import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotNull;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+		@Index(name = "idx_events_world_id_year", columnList = "world_id, year")
+})
 public class Event extends BaseEntity {
 
 	@Column(name = "title", nullable = false, length = 255)
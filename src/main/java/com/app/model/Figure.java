@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -16,7 +17,9 @@ import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 
 @Entity
-@Table(name = "figures")
+@Table(name = "figures", indexes = {
+		@Index(name = "idx_figures_world_id_created_at", columnList = "world_id, created_at")
+})
 public class Figure extends BaseEntity {
 
 	@Column(name = "name", nullable = false, length = 255)
@@ -46,7 +49,8 @@ public class Figure extends BaseEntity {
 	@JoinTable(
 		name = "figure_events",
 		joinColumns = @JoinColumn(name = "figure_id"),
-		inverseJoinColumns = @JoinColumn(name = "event_id")
+		inverseJoinColumns = @JoinColumn(name = "event_id"),
+		indexes = @Index(name = "idx_figure_events_event_id", columnList = "event_id")
 	)
 	private Set<Event> events = new HashSet<>();
 
@@ -3,6 +3,7 @@ package com.app.model;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -12,7 +13,9 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name = "worlds")
+@Table(name = "worlds", indexes = {
+		@Index(name = "idx_worlds_user_id", columnList = "user_id")
+})
 public class World extends BaseEntity {
 	@Column(name = "name", nullable = false, length = 255)
 	@NotBlank(message = "Name is required")
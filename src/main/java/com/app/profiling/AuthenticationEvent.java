@@ -0,0 +1,27 @@
+package com.app.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for authenticating a bearer token, emitted by
+ * JwtAuthenticationFilter. Covers token validation and the user lookup.
+ */
+@Name("com.app.Authentication")
+@Label("Authentication")
+@Category({ "Story Keeper", "Security" })
+@Description("Bearer token validation and user lookup")
+@StackTrace(false)
+public class AuthenticationEvent extends Event {
+
+	public static final String AUTHENTICATED = "authenticated";
+	public static final String INVALID_TOKEN = "invalid_token";
+	public static final String USER_NOT_FOUND = "user_not_found";
+
+	@Label("Outcome")
+	public String outcome;
+}
@@ -0,0 +1,28 @@
+package com.app.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for one JDBC statement execution, emitted by SqlStatementListener.
+ * Keeps the stack trace so a statement can be traced back to its caller.
+ */
+@Name("com.app.DatabaseCall")
+@Label("Database Call")
+@Category({ "Story Keeper", "Database" })
+@Description("Execution of one JDBC statement or batch")
+public class DatabaseCallEvent extends Event {
+
+	@Label("Statement")
+	@Description("Normalized statement shape")
+	public String statement;
+
+	@Label("Batch Size")
+	public int batchSize;
+
+	@Label("Success")
+	public boolean success;
+}
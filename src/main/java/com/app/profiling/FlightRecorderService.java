@@ -0,0 +1,205 @@
+package com.app.profiling;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.app.dto.admin.RecordingResponse;
+import com.app.exception.InvalidRecordingException;
+import com.app.exception.RecordingConflictException;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * On-demand Java Flight Recorder sessions for the admin endpoints.
+ *
+ * At most one recording runs at a time: a new one is refused while this
+ * service's recording, or any other recording in the JVM (e.g. started with
+ * -XX:StartFlightRecording), is running. The recording stops by itself after
+ * its duration and is written to a temporary file, which is kept until the
+ * next recording starts or the application shuts down.
+ *
+ * Streaming recordings (RecordingStream, e.g. VirtualThreadDiagnostics) write
+ * no file and do not count as running recordings.
+ *
+ * Starting a recording does file I/O, so the state is guarded by a lock rather
+ * than a monitor (a virtual thread blocked inside synchronized pins its
+ * carrier).
+ */
+@Component
+public class FlightRecorderService {
+
+	private static final Logger logger = LoggerFactory.getLogger(FlightRecorderService.class);
+	private static final Set<String> PROFILES = Set.of("default", "profile");
+	// How the JDK names the recording behind a RecordingStream
+	private static final String STREAM_NAME_PREFIX = "Recording Stream";
+
+	private final long maxDurationSeconds;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	// All guarded by lock
+	private long nextId = 1;
+	private Recording recording;
+	private long recordingId;
+	private String profile;
+	private Instant startedAt;
+	private Path file;
+
+	public FlightRecorderService(@Value("${profiling.jfr.max-duration-seconds:300}") long maxDurationSeconds) {
+		this.maxDurationSeconds = maxDurationSeconds;
+	}
+
+	/**
+	 * @param profile JFR settings: "default" (low overhead) or "profile" (more
+	 *                detail, e.g. allocation and lock profiling)
+	 */
+	public RecordingResponse start(String profile, long durationSeconds) {
+		lock.lock();
+		try {
+			return startLocked(profile, durationSeconds);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private RecordingResponse startLocked(String profile, long durationSeconds) {
+		if (!PROFILES.contains(profile)) {
+			throw new InvalidRecordingException("profile must be one of " + PROFILES);
+		}
+		if (durationSeconds < 1 || durationSeconds > maxDurationSeconds) {
+			throw new InvalidRecordingException("durationSeconds must be between 1 and " + maxDurationSeconds);
+		}
+		if (!FlightRecorder.isAvailable()) {
+			throw new RecordingConflictException("Flight Recorder is not available in this JVM");
+		}
+		if (FlightRecorder.getFlightRecorder().getRecordings().stream()
+				.filter(r -> !r.getName().startsWith(STREAM_NAME_PREFIX))
+				.anyMatch(r -> r.getState() == RecordingState.RUNNING || r.getState() == RecordingState.DELAYED)) {
+			throw new RecordingConflictException("A recording is already running");
+		}
+
+		discard();
+		try {
+			Path destination = Files.createTempFile("storykeeper-", ".jfr");
+			Recording newRecording = new Recording(Configuration.getConfiguration(profile));
+			newRecording.setName("storykeeper-admin-" + nextId);
+			newRecording.setToDisk(true);
+			newRecording.setDuration(Duration.ofSeconds(durationSeconds));
+			newRecording.setDestination(destination);
+			newRecording.start();
+
+			recording = newRecording;
+			recordingId = nextId++;
+			this.profile = profile;
+			startedAt = Instant.now();
+			file = destination;
+		} catch (IOException | ParseException e) {
+			throw new IllegalStateException("Could not start recording", e);
+		}
+		logger.info("Started flight recording {} (profile={}, duration={}s)", recordingId, profile, durationSeconds);
+		return status();
+	}
+
+	/**
+	 * Stops the running recording early; the file is written as if it had
+	 * run to the end.
+	 */
+	public RecordingResponse stop() {
+		lock.lock();
+		try {
+			if (recording == null) {
+				throw new RecordingConflictException("No recording");
+			}
+			if (recording.getState() == RecordingState.RUNNING) {
+				recording.stop();
+				logger.info("Stopped flight recording {} early", recordingId);
+			}
+			return status();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public Optional<RecordingResponse> current() {
+		lock.lock();
+		try {
+			return recording == null ? Optional.empty() : Optional.of(status());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * File of a finished recording, empty if the id is unknown (only the last
+	 * recording is kept).
+	 */
+	public Optional<Path> finishedFile(long id) {
+		lock.lock();
+		try {
+			if (recording == null || recordingId != id) {
+				return Optional.empty();
+			}
+			if (!isFinished()) {
+				throw new RecordingConflictException("Recording " + id + " is still running");
+			}
+			return Optional.of(file);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private boolean isFinished() {
+		RecordingState state = recording.getState();
+		return state == RecordingState.STOPPED || state == RecordingState.CLOSED;
+	}
+
+	private RecordingResponse status() {
+		long sizeBytes = 0;
+		if (isFinished()) {
+			try {
+				sizeBytes = Files.size(file);
+			} catch (IOException e) {
+				sizeBytes = -1;
+			}
+		}
+		// A recording with a destination closes itself once the file is written
+		String state = isFinished() ? RecordingState.STOPPED.name() : recording.getState().name();
+		return new RecordingResponse(recordingId, profile, state, startedAt,
+				recording.getDuration().toSeconds(), sizeBytes);
+	}
+
+	@PreDestroy
+	void discard() {
+		lock.lock();
+		try {
+			if (recording == null) {
+				return;
+			}
+			recording.close();
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				logger.warn("Could not delete {}: {}", file, e.getMessage());
+			}
+			recording = null;
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.app.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one HTTP request, emitted by FlightRecorderFilter.
+ */
+@Name("com.app.HttpRequest")
+@Label("HTTP Request")
+@Category({ "Story Keeper", "HTTP" })
+@Description("Handling of one HTTP request, from the first filter to the response")
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+
+	@Label("Method")
+	public String method;
+
+	@Label("URI Pattern")
+	@Description("Controller mapping, or the raw URI if no handler matched")
+	public String uri;
+
+	@Label("Status")
+	public int status;
+
+	@Label("SQL Statements")
+	public int sqlStatements;
+}
@@ -0,0 +1,174 @@
+package com.app.profiling;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.app.config.VirtualThreads;
+import com.app.dto.admin.VirtualThreadsResponse;
+import com.app.dto.admin.VirtualThreadsResponse.PinnedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Carrier and pinning diagnostics for the virtual thread mode
+ * (spring.threads.virtual.enabled).
+ *
+ * With virtual-threads.diagnostics.enabled, a JFR event stream reports
+ * virtual threads that stay pinned to their carrier for at least
+ * virtual-threads.diagnostics.pinned-threshold-ms (blocking inside
+ * synchronized or a native frame) and virtual threads that could not be
+ * scheduled at all. Each one is logged with its stack, counted
+ * (jvm.threads.virtual.pinned, jvm.threads.virtual.submit.failed) and kept in
+ * a small buffer for the admin endpoint. The events only exist on Java 21 or
+ * later; on older JVMs the stream stays silent.
+ *
+ * The carrier pool is sized from the JDK's
+ * jdk.virtualThreadScheduler.parallelism and .maxPoolSize system properties.
+ */
+@Component
+public class VirtualThreadDiagnostics {
+
+	private static final Logger logger = LoggerFactory.getLogger(VirtualThreadDiagnostics.class);
+	private static final String PINNED = "jdk.VirtualThreadPinned";
+	private static final String SUBMIT_FAILED = "jdk.VirtualThreadSubmitFailed";
+	private static final int MAX_FRAMES = 20;
+
+	private final boolean virtualThreads;
+	private final boolean enabled;
+	private final Duration pinnedThreshold;
+	private final Counter pinnedCounter;
+	private final Counter submitFailedCounter;
+	private final LongAdder pinned = new LongAdder();
+	private final LongAdder submitFailed = new LongAdder();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final PinnedEvent[] recent;
+	private long written;
+	private RecordingStream stream;
+
+	public VirtualThreadDiagnostics(MeterRegistry meterRegistry,
+			@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+			@Value("${virtual-threads.diagnostics.enabled:false}") boolean enabled,
+			@Value("${virtual-threads.diagnostics.pinned-threshold-ms:20}") long pinnedThresholdMs,
+			@Value("${virtual-threads.diagnostics.recent:50}") int recent) {
+		this.virtualThreads = virtualThreads;
+		this.enabled = enabled;
+		this.pinnedThreshold = Duration.ofMillis(pinnedThresholdMs);
+		this.recent = new PinnedEvent[Math.max(1, recent)];
+		this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+				.description("Virtual threads pinned to their carrier beyond the threshold")
+				.register(meterRegistry);
+		this.submitFailedCounter = Counter.builder("jvm.threads.virtual.submit.failed")
+				.description("Virtual threads that could not be scheduled")
+				.register(meterRegistry);
+	}
+
+	@PostConstruct
+	void start() {
+		if (virtualThreads && !VirtualThreads.isSupported()) {
+			logger.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; "
+					+ "using platform threads", Runtime.version().feature());
+		}
+		logger.info("Virtual threads: {} (carrier parallelism={}, max pool size={})",
+				virtualThreads && VirtualThreads.isSupported() ? "enabled" : "disabled", carrierParallelism(),
+				carrierMaxPoolSize());
+		if (!enabled) {
+			return;
+		}
+		if (!FlightRecorder.isAvailable()) {
+			logger.warn("Virtual thread diagnostics need Flight Recorder, which is not available");
+			return;
+		}
+		stream = new RecordingStream();
+		stream.enable(PINNED).withThreshold(pinnedThreshold).withStackTrace();
+		stream.enable(SUBMIT_FAILED).withStackTrace();
+		// Events are handed over within a second; keep little on disk
+		stream.setMaxAge(Duration.ofMinutes(1));
+		stream.onEvent(PINNED, this::onPinned);
+		stream.onEvent(SUBMIT_FAILED, this::onSubmitFailed);
+		stream.startAsync();
+		logger.info("Virtual thread diagnostics started (pinned threshold {} ms)", pinnedThreshold.toMillis());
+	}
+
+	public VirtualThreadsResponse status() {
+		List<PinnedEvent> events = new ArrayList<>();
+		lock.lock();
+		try {
+			for (long i = written - 1; i >= 0 && i >= written - recent.length; i--) {
+				events.add(recent[(int) (i % recent.length)]);
+			}
+		} finally {
+			lock.unlock();
+		}
+		return new VirtualThreadsResponse(virtualThreads, VirtualThreads.isSupported(), stream != null,
+				carrierParallelism(), carrierMaxPoolSize(), pinned.sum(), submitFailed.sum(), events);
+	}
+
+	private void onPinned(RecordedEvent event) {
+		pinned.increment();
+		pinnedCounter.increment();
+		List<String> frames = frames(event);
+		String thread = event.getThread() != null ? event.getThread().getJavaName() : "?";
+		PinnedEvent pinnedEvent = new PinnedEvent(event.getStartTime(), thread,
+				event.getDuration().toNanos() / 1_000_000.0, frames);
+		lock.lock();
+		try {
+			recent[(int) (written++ % recent.length)] = pinnedEvent;
+		} finally {
+			lock.unlock();
+		}
+		logger.warn("Virtual thread {} pinned its carrier for {} ms:\n\tat {}", thread,
+				event.getDuration().toMillis(), String.join("\n\tat ", frames));
+	}
+
+	private void onSubmitFailed(RecordedEvent event) {
+		submitFailed.increment();
+		submitFailedCounter.increment();
+		logger.error("Virtual thread could not be scheduled: {}", event.getString("exceptionMessage"));
+	}
+
+	private static List<String> frames(RecordedEvent event) {
+		List<String> frames = new ArrayList<>();
+		if (event.getStackTrace() == null) {
+			return frames;
+		}
+		for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+			if (frames.size() == MAX_FRAMES) {
+				break;
+			}
+			frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":"
+					+ frame.getLineNumber());
+		}
+		return frames;
+	}
+
+	private static int carrierParallelism() {
+		return Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+				Runtime.getRuntime().availableProcessors());
+	}
+
+	private static int carrierMaxPoolSize() {
+		return Integer.getInteger("jdk.virtualThreadScheduler.maxPoolSize", Math.max(carrierParallelism(), 256));
+	}
+
+	@PreDestroy
+	void stop() {
+		if (stream != null) {
+			stream.close();
+		}
+	}
+}
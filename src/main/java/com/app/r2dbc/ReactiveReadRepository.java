@@ -0,0 +1,108 @@
+package com.app.r2dbc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+
+import com.app.dto.event.EventResponse;
+import com.app.dto.figure.FigureResponse;
+import com.app.model.FigureType;
+import com.app.model.Importance;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking reads of a world's events and figures over R2DBC, mapped
+ * straight from rows to the same DTOs the JPA services return (no entities,
+ * no persistence context).
+ *
+ * Rows are fetched reactive.fetch-size at a time and only as fast as the
+ * subscriber requests them. Ownership is not checked here; callers must check
+ * it first. These statements bypass the JDBC proxy, so they are not counted
+ * in the per-request SQL metrics or the slow query log.
+ */
+public class ReactiveReadRepository {
+
+	private static final String EVENTS_BY_WORLD = "SELECT id, title, year, description, importance, world_id, "
+			+ "created_at, updated_at FROM events WHERE world_id = :worldId ORDER BY year ASC";
+
+	// Same filter as FigureRespository.findRowsByWorldIdAndNameOrDescriptionContaining
+	private static final String FIGURES_BY_WORLD = "SELECT f.id, f.name, f.type, f.description, f.world_id, "
+			+ "f.created_at, f.updated_at, "
+			+ "(SELECT ARRAY_AGG(fe.event_id ORDER BY fe.event_id) FROM figure_events fe "
+			+ "WHERE fe.figure_id = f.id) AS event_ids "
+			+ "FROM figures f WHERE f.world_id = :worldId%s ORDER BY f.created_at ASC";
+	private static final String SEARCH_FILTER = " AND (LOWER(COALESCE(f.name, '')) LIKE LOWER(CONCAT('%', :search, '%'))"
+			+ " OR LOWER(COALESCE(f.description, '')) LIKE LOWER(CONCAT('%', :search, '%')))";
+
+	private final DatabaseClient databaseClient;
+	private final ConnectionPool pool;
+	private final int fetchSize;
+
+	public ReactiveReadRepository(DatabaseClient databaseClient, ConnectionPool pool, int fetchSize) {
+		this.databaseClient = databaseClient;
+		this.pool = pool;
+		this.fetchSize = fetchSize;
+	}
+
+	public Flux<EventResponse> findEventsByWorldId(Long worldId) {
+		return withFetchSize(databaseClient.sql(EVENTS_BY_WORLD).bind("worldId", worldId))
+				.map(row -> new EventResponse(row.get("id", Long.class), row.get("title", String.class),
+						row.get("year", Integer.class), row.get("description", String.class),
+						enumValue(Importance.class, row.get("importance", String.class)),
+						row.get("world_id", Long.class), row.get("created_at", LocalDateTime.class),
+						row.get("updated_at", LocalDateTime.class)))
+				.all();
+	}
+
+	/**
+	 * @param search optional, case-insensitive substring of name or description
+	 */
+	public Flux<FigureResponse> findFiguresByWorldId(Long worldId, String search) {
+		boolean searching = search != null && !search.isBlank();
+		GenericExecuteSpec spec = databaseClient.sql(String.format(FIGURES_BY_WORLD, searching ? SEARCH_FILTER : ""))
+				.bind("worldId", worldId);
+		if (searching) {
+			spec = spec.bind("search", search.trim());
+		}
+		return withFetchSize(spec)
+				.map(row -> new FigureResponse(row.get("id", Long.class), row.get("name", String.class),
+						enumValue(FigureType.class, row.get("type", String.class)),
+						row.get("description", String.class), row.get("world_id", Long.class), eventIds(row),
+						row.get("created_at", LocalDateTime.class), row.get("updated_at", LocalDateTime.class)))
+				.all();
+	}
+
+	private GenericExecuteSpec withFetchSize(GenericExecuteSpec spec) {
+		return spec.filter(statement -> statement.fetchSize(fetchSize));
+	}
+
+	/**
+	 * PostgreSQL returns bigint[] as Long[], H2 returns Object[].
+	 */
+	private static List<Long> eventIds(Readable row) {
+		Object value = row.get("event_ids");
+		List<Long> eventIds = new ArrayList<>();
+		if (value instanceof Object[] array) {
+			for (Object id : array) {
+				eventIds.add(((Number) id).longValue());
+			}
+		}
+		return eventIds;
+	}
+
+	private static <E extends Enum<E>> E enumValue(Class<E> type, String name) {
+		return name != null ? Enum.valueOf(type, name) : null;
+	}
+
+	@PreDestroy
+	void close() {
+		pool.dispose();
+	}
+}
@@ -6,4 +6,9 @@ import org.springframework.data.repository.NoRepositoryBean;
 @NoRepositoryBean
 public interface BaseRepository<T, ID> extends JpaRepository<T, ID> {
     // Base repository interface for common repository methods
+
+    /**
+     * Rows per JDBC round trip for the Stream queries (list streaming).
+     */
+    String STREAM_FETCH_SIZE = "500";
 }
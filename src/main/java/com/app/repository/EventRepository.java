@@ -1,18 +1,70 @@
 package com.app.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.app.dto.event.EventResponse;
 import com.app.model.Event;
 import com.app.model.World;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface EventRepository extends BaseRepository<Event, Long> {
+
+	/**
+	 * Select list of the EventResponse projections (no managed entities).
+	 */
+	String EVENT_RESPONSE = "SELECT new com.app.dto.event.EventResponse(e.id, e.title, e.year, e.description, "
+			+ "e.importance, e.world.id, e.createdAt, e.updatedAt) FROM Event e ";
+
 	List<Event> findByWorld(World world);
 
 	Optional<Event> findByIdAndWorld(Long id, World world);
 
-	List<Event> findByWorldOrderByYearAsc(World world);
+	@Query(EVENT_RESPONSE + "WHERE e.id = :id")
+	Optional<EventResponse> findResponseById(@Param("id") Long id);
+
+	@Query(EVENT_RESPONSE + "WHERE e.world.id = :worldId ORDER BY e.year ASC")
+	List<EventResponse> findResponsesByWorldId(@Param("worldId") Long worldId);
+
+	/**
+	 * Events of any of the worlds, restricted to worlds the user owns (GraphQL
+	 * data loaders batch the world ids of one request into this IN list).
+	 */
+	@Query(EVENT_RESPONSE + "WHERE e.world.id IN :worldIds AND e.world.user.id = :userId ORDER BY e.year ASC")
+	List<EventResponse> findResponsesByWorldIdIn(@Param("worldIds") Collection<Long> worldIds,
+			@Param("userId") Long userId);
+
+	@Query(EVENT_RESPONSE + "WHERE e.id IN :ids AND e.world.user.id = :userId ORDER BY e.year ASC")
+	List<EventResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+	/**
+	 * The first events of findResponsesByWorldId (no count query).
+	 */
+	@Query(EVENT_RESPONSE + "WHERE e.world.id = :worldId ORDER BY e.year ASC")
+	List<EventResponse> findResponsesByWorldId(@Param("worldId") Long worldId, Pageable pageable);
+
+	/**
+	 * Event count per importance in a world. Each row is [Importance, Long].
+	 */
+	@Query("SELECT e.importance, COUNT(e) FROM Event e WHERE e.world.id = :worldId GROUP BY e.importance")
+	List<Object[]> countByImportance(@Param("worldId") Long worldId);
+
+	/**
+	 * Cursor over findResponsesByWorldId; must be consumed (and closed) inside
+	 * a transaction.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+	@Query(EVENT_RESPONSE + "WHERE e.world.id = :worldId ORDER BY e.year ASC")
+	Stream<EventResponse> streamResponsesByWorldId(@Param("worldId") Long worldId);
 }
@@ -1,37 +1,107 @@
 package com.app.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.app.model.Figure;
 import com.app.model.World;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface FigureRespository extends BaseRepository<Figure, Long> {
+
+	/**
+	 * Select list of the FigureRow projections: the figure's columns and its
+	 * event ids, aggregated in the same statement.
+	 */
+	String FIGURE_ROW = "SELECT new com.app.repository.FigureRow(f.id, f.name, f.type, f.description, f.world.id, "
+			+ "f.createdAt, f.updatedAt, listagg(cast(e.id as String), ',') within group (order by e.id)) "
+			+ "FROM Figure f LEFT JOIN f.events e ";
+	String FIGURE_ROW_GROUP_BY = " GROUP BY f.id, f.name, f.type, f.description, f.world.id, f.createdAt, f.updatedAt";
+	String SEARCH_FILTER = " AND (LOWER(COALESCE(f.name, '')) LIKE LOWER(CONCAT('%', :search, '%')) OR "
+			+ "LOWER(COALESCE(f.description, '')) LIKE LOWER(CONCAT('%', :search, '%')))";
+
 	List<Figure> findByWorld(World world);
 
 	Optional<Figure> findByIdAndWorld(Long id, World world);
 
-	List<Figure> findByWorldOrderByCreatedAtAsc(World world);
+	@Query(FIGURE_ROW + "WHERE f.id = :id" + FIGURE_ROW_GROUP_BY)
+	Optional<FigureRow> findRowById(@Param("id") Long id);
+
+	@Query(FIGURE_ROW + "WHERE f.world.id = :worldId" + FIGURE_ROW_GROUP_BY + " ORDER BY f.createdAt ASC")
+	List<FigureRow> findRowsByWorldId(@Param("worldId") Long worldId);
+
+	@Query(value = FIGURE_ROW + "WHERE f.world.id = :worldId" + FIGURE_ROW_GROUP_BY + " ORDER BY f.createdAt ASC",
+			countQuery = "SELECT COUNT(f) FROM Figure f WHERE f.world.id = :worldId")
+	Page<FigureRow> findRowsByWorldId(@Param("worldId") Long worldId, Pageable pageable);
+
+	/**
+	 * Rows of any of the worlds, restricted to worlds the user owns (GraphQL
+	 * data loaders batch the world ids of one request into this IN list).
+	 */
+	@Query(FIGURE_ROW + "WHERE f.world.id IN :worldIds AND f.world.user.id = :userId" + FIGURE_ROW_GROUP_BY
+			+ " ORDER BY f.createdAt ASC")
+	List<FigureRow> findRowsByWorldIdIn(@Param("worldIds") Collection<Long> worldIds,
+			@Param("userId") Long userId);
+
+	/**
+	 * Rows of the figures of any of the worlds that are linked to any of the
+	 * events, with all their event ids (not only the given ones), restricted
+	 * to worlds the user owns. The world ids keep the lookup on the world
+	 * index, however many events there are.
+	 */
+	@Query(FIGURE_ROW + "WHERE f.world.id IN :worldIds AND f.world.user.id = :userId"
+			+ " AND EXISTS (SELECT 1 FROM f.events le WHERE le.id IN :eventIds)" + FIGURE_ROW_GROUP_BY
+			+ " ORDER BY f.createdAt ASC")
+	List<FigureRow> findRowsLinkedToEvents(@Param("worldIds") Collection<Long> worldIds,
+			@Param("eventIds") Collection<Long> eventIds, @Param("userId") Long userId);
+
+	/**
+	 * The first rows of findRowsByWorldId (no count query).
+	 */
+	@Query(FIGURE_ROW + "WHERE f.world.id = :worldId" + FIGURE_ROW_GROUP_BY + " ORDER BY f.createdAt ASC")
+	List<FigureRow> findFirstRowsByWorldId(@Param("worldId") Long worldId, Pageable pageable);
+
+	/**
+	 * Figure count per type in a world. Each row is [FigureType, Long].
+	 */
+	@Query("SELECT f.type, COUNT(f) FROM Figure f WHERE f.world.id = :worldId GROUP BY f.type")
+	List<Object[]> countByType(@Param("worldId") Long worldId);
+
+	@Query(FIGURE_ROW + "WHERE f.world.id = :worldId" + SEARCH_FILTER + FIGURE_ROW_GROUP_BY
+			+ " ORDER BY f.createdAt ASC")
+	List<FigureRow> findRowsByWorldIdAndNameOrDescriptionContaining(@Param("worldId") Long worldId,
+			@Param("search") String search);
 
-	Page<Figure> findByWorldOrderByCreatedAtAsc(World world, Pageable pageable);
+	@Query(value = FIGURE_ROW + "WHERE f.world.id = :worldId" + SEARCH_FILTER + FIGURE_ROW_GROUP_BY
+			+ " ORDER BY f.createdAt ASC",
+			countQuery = "SELECT COUNT(f) FROM Figure f WHERE f.world.id = :worldId" + SEARCH_FILTER)
+	Page<FigureRow> findRowsByWorldIdAndNameOrDescriptionContaining(@Param("worldId") Long worldId,
+			@Param("search") String search, Pageable pageable);
 
-	@Query("SELECT f FROM Figure f WHERE f.world = :world AND " +
-			"(LOWER(COALESCE(f.name, '')) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-			"LOWER(COALESCE(f.description, '')) LIKE LOWER(CONCAT('%', :search, '%'))) " +
-			"ORDER BY f.createdAt ASC")
-	List<Figure> findByWorldAndNameOrDescriptionContaining(@Param("world") World world, @Param("search") String search);
+	/**
+	 * Cursors over findRowsByWorldId and
+	 * findRowsByWorldIdAndNameOrDescriptionContaining; must be consumed (and
+	 * closed) inside a transaction.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+	@Query(FIGURE_ROW + "WHERE f.world.id = :worldId" + FIGURE_ROW_GROUP_BY + " ORDER BY f.createdAt ASC")
+	Stream<FigureRow> streamRowsByWorldId(@Param("worldId") Long worldId);
 
-	@Query("SELECT f FROM Figure f WHERE f.world = :world AND " +
-			"(LOWER(COALESCE(f.name, '')) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-			"LOWER(COALESCE(f.description, '')) LIKE LOWER(CONCAT('%', :search, '%'))) " +
-			"ORDER BY f.createdAt ASC")
-	Page<Figure> findByWorldAndNameOrDescriptionContaining(@Param("world") World world, @Param("search") String search,
-			Pageable pageable);
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+	@Query(FIGURE_ROW + "WHERE f.world.id = :worldId" + SEARCH_FILTER + FIGURE_ROW_GROUP_BY
+			+ " ORDER BY f.createdAt ASC")
+	Stream<FigureRow> streamRowsByWorldIdAndNameOrDescriptionContaining(@Param("worldId") Long worldId,
+			@Param("search") String search);
 }
@@ -0,0 +1,29 @@
+package com.app.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.app.model.FigureType;
+
+/**
+ * A figure as selected by the FigureRespository projection queries, with the
+ * ids of its events aggregated into one comma-separated, ascending list (null
+ * without events).
+ */
+public record FigureRow(Long id, String name, FigureType type, String description, Long worldId,
+		LocalDateTime createdAt, LocalDateTime updatedAt, String eventIds) {
+
+	/**
+	 * Splits an aggregated event id list (empty for null).
+	 */
+	public static List<Long> eventIds(String eventIds) {
+		List<Long> ids = new ArrayList<>();
+		if (eventIds != null) {
+			for (String eventId : eventIds.split(",")) {
+				ids.add(Long.valueOf(eventId));
+			}
+		}
+		return ids;
+	}
+}
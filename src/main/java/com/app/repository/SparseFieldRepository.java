@@ -0,0 +1,127 @@
+package com.app.repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * List reads narrowed to a SparseFieldset selection: only the selected
+ * columns are in the SELECT list (an unselected description is never read),
+ * and each row is a map of the selected fields in response order, with the
+ * same values the full DTO would serialize.
+ *
+ * Filters and ordering are the ones of EventRepository.findResponsesByWorldId
+ * and the FigureRespository row queries. Ownership is not checked here.
+ */
+@Repository
+public class SparseFieldRepository {
+
+	private static final String FIGURES_WHERE = " WHERE f.world.id = :worldId";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Cursor over the world's events in timeline order; must be consumed (and
+	 * closed) inside a transaction.
+	 */
+	public Stream<Map<String, Object>> streamEvents(Long worldId, List<String> fields) {
+		String jpql = select(SparseFieldset.EVENTS, fields) + " FROM Event e WHERE e.world.id = :worldId"
+				+ " ORDER BY e.year ASC";
+		return stream(entityManager.createQuery(jpql, Tuple.class).setParameter("worldId", worldId), fields);
+	}
+
+	/**
+	 * Cursor over the world's figures in creation order; must be consumed (and
+	 * closed) inside a transaction.
+	 *
+	 * @param search optional, case-insensitive substring of name or description
+	 */
+	public Stream<Map<String, Object>> streamFigures(Long worldId, String search, List<String> fields) {
+		return stream(figureQuery(worldId, search, fields), fields);
+	}
+
+	public Page<Map<String, Object>> findFigures(Long worldId, String search, List<String> fields,
+			Pageable pageable) {
+		TypedQuery<Tuple> query = figureQuery(worldId, search, fields);
+		query.setFirstResult((int) pageable.getOffset());
+		query.setMaxResults(pageable.getPageSize());
+		List<Map<String, Object>> content = query.getResultStream().map(tuple -> toMap(tuple, fields)).toList();
+
+		TypedQuery<Long> count = entityManager.createQuery("SELECT COUNT(f) FROM Figure f" + FIGURES_WHERE
+				+ (search != null ? FigureRespository.SEARCH_FILTER : ""), Long.class)
+				.setParameter("worldId", worldId);
+		if (search != null) {
+			count.setParameter("search", search);
+		}
+		return new PageImpl<>(content, pageable, count.getSingleResult());
+	}
+
+	private TypedQuery<Tuple> figureQuery(Long worldId, String search, List<String> fields) {
+		StringBuilder jpql = new StringBuilder(select(SparseFieldset.FIGURES, fields)).append(" FROM Figure f");
+		boolean withEventIds = fields.contains("eventIds");
+		if (withEventIds) {
+			jpql.append(" LEFT JOIN f.events ev");
+		}
+		jpql.append(FIGURES_WHERE);
+		if (search != null) {
+			jpql.append(FigureRespository.SEARCH_FILTER);
+		}
+		if (withEventIds) {
+			// Every selected column (and the sort key) must be grouped, not just f.id
+			jpql.append(" GROUP BY f.id, f.createdAt");
+			for (String field : fields) {
+				if (!field.equals("eventIds") && !field.equals("id") && !field.equals("createdAt")) {
+					jpql.append(", ").append(SparseFieldset.FIGURES.expression(field));
+				}
+			}
+		}
+		jpql.append(" ORDER BY f.createdAt ASC");
+
+		TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class)
+				.setParameter("worldId", worldId);
+		if (search != null) {
+			query.setParameter("search", search);
+		}
+		return query;
+	}
+
+	private static String select(SparseFieldset fieldset, List<String> fields) {
+		StringBuilder select = new StringBuilder("SELECT ");
+		for (int i = 0; i < fields.size(); i++) {
+			if (i > 0) {
+				select.append(", ");
+			}
+			select.append(fieldset.expression(fields.get(i)));
+		}
+		return select.toString();
+	}
+
+	private static Stream<Map<String, Object>> stream(TypedQuery<Tuple> query, List<String> fields) {
+		return query.setHint(HibernateHints.HINT_FETCH_SIZE, Integer.valueOf(BaseRepository.STREAM_FETCH_SIZE))
+				.getResultStream()
+				.map(tuple -> toMap(tuple, fields));
+	}
+
+	private static Map<String, Object> toMap(Tuple tuple, List<String> fields) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		for (int i = 0; i < fields.size(); i++) {
+			String field = fields.get(i);
+			Object value = tuple.get(i);
+			row.put(field, field.equals("eventIds") ? FigureRow.eventIds((String) value) : value);
+		}
+		return row;
+	}
+}
@@ -0,0 +1,106 @@
+package com.app.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.app.exception.InvalidFieldsException;
+
+/**
+ * The fields a list endpoint can be narrowed to with fields=, in the order
+ * of the full response DTO, and the JPQL expression that selects each one.
+ */
+public final class SparseFieldset {
+
+	public static final SparseFieldset EVENTS = new SparseFieldset("events", fields(
+			"id", "e.id",
+			"title", "e.title",
+			"year", "e.year",
+			"description", "e.description",
+			"importance", "e.importance",
+			"worldId", "e.world.id",
+			"createdAt", "e.createdAt",
+			"updatedAt", "e.updatedAt"));
+
+	/**
+	 * eventIds is aggregated over a join of the figure's events (see
+	 * SparseFieldRepository).
+	 */
+	public static final SparseFieldset FIGURES = new SparseFieldset("figures", fields(
+			"id", "f.id",
+			"name", "f.name",
+			"type", "f.type",
+			"description", "f.description",
+			"worldId", "f.world.id",
+			"eventIds", "listagg(cast(ev.id as String), ',') within group (order by ev.id)",
+			"createdAt", "f.createdAt",
+			"updatedAt", "f.updatedAt"));
+
+	/**
+	 * Worlds are narrowed after they are read from the user's cached world
+	 * list, so their fields have no expressions.
+	 */
+	public static final SparseFieldset WORLDS = new SparseFieldset("worlds", fields(
+			"id", null,
+			"name", null,
+			"startYear", null,
+			"currentYear", null,
+			"description", null,
+			"createdAt", null,
+			"updatedAt", null));
+
+	private final String resource;
+	private final Map<String, String> expressions;
+
+	private SparseFieldset(String resource, Map<String, String> expressions) {
+		this.resource = resource;
+		this.expressions = expressions;
+	}
+
+	/**
+	 * @param fields comma-separated field names, e.g. "id,title,year"
+	 * @return the selected fields in response order, or null when fields is
+	 *         null or blank (the full response)
+	 * @throws InvalidFieldsException for a name that is not a field of this
+	 *         resource
+	 */
+	public List<String> select(String fields) {
+		if (fields == null || fields.isBlank()) {
+			return null;
+		}
+		Set<String> requested = new TreeSet<>();
+		for (String field : fields.split(",")) {
+			String name = field.trim();
+			if (name.isEmpty()) {
+				continue;
+			}
+			if (!expressions.containsKey(name)) {
+				throw new InvalidFieldsException("Unknown field '" + name + "' for " + resource + ", expected any of "
+						+ String.join(", ", expressions.keySet()));
+			}
+			requested.add(name);
+		}
+		List<String> selected = new ArrayList<>();
+		for (String name : expressions.keySet()) {
+			if (requested.contains(name)) {
+				selected.add(name);
+			}
+		}
+		return selected.isEmpty() ? null : selected;
+	}
+
+	String expression(String field) {
+		return expressions.get(field);
+	}
+
+	private static Map<String, String> fields(String... namesAndExpressions) {
+		Map<String, String> expressions = new LinkedHashMap<>();
+		for (int i = 0; i < namesAndExpressions.length; i += 2) {
+			expressions.put(namesAndExpressions[i], namesAndExpressions[i + 1]);
+		}
+		return expressions;
+	}
+}
@@ -1,16 +1,33 @@
 package com.app.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.app.dto.world.WorldResponse;
 import com.app.model.User;
 import com.app.model.World;
 
 @Repository
 public interface WorldRepository extends BaseRepository<World, Long> {
-	List<World> findByUser(User user);
+	@Query("SELECT new com.app.dto.world.WorldResponse(w.id, w.name, w.startYear, w.currentYear, w.description, "
+			+ "w.createdAt, w.updatedAt) FROM World w WHERE w.user.id = :userId")
+	List<WorldResponse> findResponsesByUserId(@Param("userId") Long userId);
 
 	Optional<World> findByIdAndUser(Long id, User user);
+
+	/**
+	 * Loads worlds with their owner id (without loading the owner).
+	 * Each row is [World, Long ownerId].
+	 */
+	@Query("SELECT w, w.user.id FROM World w WHERE w.id IN :ids")
+	List<Object[]> findWithOwnerIdByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Query("SELECT w.id FROM World w ORDER BY w.updatedAt DESC")
+	List<Long> findRecentlyUpdatedIds(Pageable pageable);
 }
@@ -4,8 +4,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.app.cache.CachedUser;
+import com.app.cache.CacheRegistry;
 import com.app.model.User;
 import com.app.repository.UserRepository;
+import com.app.timing.RequestTimer;
+import com.app.timing.RequestTimer.Phase;
 
 @Service
 public class AuthService {
@@ -19,6 +23,9 @@ public class AuthService {
 	@Autowired
 	private JwtService jwtService;
 
+	@Autowired
+	private CacheRegistry cacheRegistry;
+
 	public String registerUser(String email, String password) {
 		if (userRepository.existsByEmail(email)) {
 			throw new RuntimeException("User already exists");
@@ -58,11 +65,25 @@ public class AuthService {
 		return jwtService.extractEmail(jwtToken);
 	}
 
+	/**
+	 * The user with only id and email set, a new instance per call (the cache
+	 * holds an immutable snapshot). Associations must use
+	 * UserRepository.getReferenceById.
+	 */
 	public User getUserByEmail(String email) {
-		User user = userRepository.findByEmail(email);
+		CachedUser user;
+		long start = RequestTimer.begin(Phase.USER);
+		try {
+			user = cacheRegistry.users().getOrLoad(email, () -> {
+				User loaded = userRepository.findByEmail(email);
+				return loaded == null ? null : CachedUser.of(loaded);
+			});
+		} finally {
+			RequestTimer.end(Phase.USER, start);
+		}
 		if (user == null) {
 			throw new RuntimeException("User not found");
 		}
-		return user;
+		return user.toUser();
 	}
 }
@@ -0,0 +1,249 @@
+package com.app.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.dto.batch.BatchOperation;
+import com.app.dto.batch.BatchRequest;
+import com.app.dto.batch.BatchResponse;
+import com.app.dto.batch.BatchResult;
+import com.app.dto.event.EventCreateRequest;
+import com.app.dto.event.EventResponse;
+import com.app.dto.event.EventUpdateRequest;
+import com.app.dto.figure.FigureCreateRequest;
+import com.app.dto.figure.FigureResponse;
+import com.app.dto.figure.FigureUpdateRequest;
+import com.app.dto.world.WorldCreateRequest;
+import com.app.dto.world.WorldResponse;
+import com.app.dto.world.WorldUpdateRequest;
+import com.app.exception.CrossWorldLinkingException;
+import com.app.exception.EventNotFoundException;
+import com.app.exception.InvalidBatchException;
+import com.app.exception.InvalidFigureTypeException;
+import com.app.exception.InvalidYearException;
+import com.app.exception.WorldNotFoundException;
+import com.app.model.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Applies a batch of writes for one user through the same service methods
+ * the REST endpoints call, so ownership checks, validation and cache
+ * invalidation are unchanged.
+ *
+ * ALL_OR_NOTHING runs every operation in one transaction (one commit) and
+ * rolls all of them back at the first failure. BEST_EFFORT commits each
+ * operation in its own transaction: a failed operation cannot be undone on
+ * its own inside a shared one, because its half-applied changes stay in the
+ * persistence context and the service's own @Transactional marks the whole
+ * transaction rollback-only.
+ */
+@Service
+public class BatchService {
+
+	private static final Logger logger = LoggerFactory.getLogger(BatchService.class);
+
+	private final WorldService worldService;
+	private final EventService eventService;
+	private final FigureService figureService;
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+	private final TransactionTemplate transaction;
+	private final int maxOperations;
+
+	public BatchService(WorldService worldService, EventService eventService, FigureService figureService,
+			ObjectMapper objectMapper, Validator validator, PlatformTransactionManager transactionManager,
+			@Value("${batch.max-operations:100}") int maxOperations) {
+		this.worldService = worldService;
+		this.eventService = eventService;
+		this.figureService = figureService;
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+		this.transaction = new TransactionTemplate(transactionManager);
+		this.maxOperations = maxOperations;
+	}
+
+	public BatchResponse execute(User currentUser, BatchRequest request) {
+		List<BatchOperation> operations = request.getOperations();
+		if (operations.size() > maxOperations) {
+			throw new InvalidBatchException("A batch can have at most " + maxOperations + " operations");
+		}
+		return request.getMode() == BatchRequest.Mode.BEST_EFFORT
+				? executeBestEffort(currentUser, operations)
+				: executeAllOrNothing(currentUser, operations);
+	}
+
+	private BatchResponse executeAllOrNothing(User currentUser, List<BatchOperation> operations) {
+		List<BatchResult> results = new ArrayList<>(operations.size());
+		BatchResult failure = transaction.execute(status -> {
+			for (int i = 0; i < operations.size(); i++) {
+				try {
+					results.add(apply(currentUser, i, operations.get(i)));
+				} catch (RuntimeException e) {
+					// Unexpected exceptions propagate, roll back and fail the request
+					HttpStatus failed = statusOf(e);
+					if (failed == null) {
+						throw e;
+					}
+					status.setRollbackOnly();
+					return BatchResult.failure(i, failed.value(), e.getMessage());
+				}
+			}
+			return null;
+		});
+		if (failure == null) {
+			return new BatchResponse(BatchRequest.Mode.ALL_OR_NOTHING, true, results);
+		}
+
+		List<BatchResult> rolledBack = new ArrayList<>(operations.size());
+		for (int i = 0; i < operations.size(); i++) {
+			if (i == failure.getIndex()) {
+				rolledBack.add(failure);
+			} else {
+				rolledBack.add(BatchResult.failure(i, HttpStatus.FAILED_DEPENDENCY.value(),
+						(i < failure.getIndex() ? "Rolled back" : "Not executed") + ": operation "
+								+ failure.getIndex() + " failed"));
+			}
+		}
+		return new BatchResponse(BatchRequest.Mode.ALL_OR_NOTHING, false, rolledBack);
+	}
+
+	private BatchResponse executeBestEffort(User currentUser, List<BatchOperation> operations) {
+		List<BatchResult> results = new ArrayList<>(operations.size());
+		for (int i = 0; i < operations.size(); i++) {
+			int index = i;
+			BatchOperation operation = operations.get(i);
+			try {
+				results.add(transaction.execute(status -> apply(currentUser, index, operation)));
+			} catch (RuntimeException e) {
+				HttpStatus failed = statusOf(e);
+				if (failed != null) {
+					results.add(BatchResult.failure(i, failed.value(), e.getMessage()));
+				} else {
+					logger.error("Batch operation {} ({}) failed", i, operation.getOp(), e);
+					results.add(BatchResult.failure(i, HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal error"));
+				}
+			}
+		}
+		return new BatchResponse(BatchRequest.Mode.BEST_EFFORT, true, results);
+	}
+
+	private BatchResult apply(User currentUser, int index, BatchOperation operation) {
+		return switch (operation.getOp()) {
+			case CREATE_WORLD -> world(index,
+					worldService.createWorld(currentUser, body(operation, WorldCreateRequest.class)));
+			case UPDATE_WORLD -> world(index, worldService.updateWorld(currentUser, id(operation),
+					body(operation, WorldUpdateRequest.class)));
+			case DELETE_WORLD -> {
+				worldService.deleteWorld(currentUser, id(operation));
+				yield deleted(index, "World");
+			}
+			case CREATE_EVENT -> event(index,
+					eventService.createEvent(currentUser, body(operation, EventCreateRequest.class)));
+			case UPDATE_EVENT -> event(index, eventService.updateEventById(currentUser, id(operation),
+					body(operation, EventUpdateRequest.class)));
+			case DELETE_EVENT -> {
+				eventService.deleteEvent(currentUser, id(operation));
+				yield deleted(index, "Event");
+			}
+			case CREATE_FIGURE -> figure(index,
+					figureService.createFigure(currentUser, body(operation, FigureCreateRequest.class)));
+			case UPDATE_FIGURE -> figure(index, figureService.updateFigureById(currentUser, id(operation),
+					body(operation, FigureUpdateRequest.class)));
+			case DELETE_FIGURE -> {
+				figureService.deleteFigureById(currentUser, id(operation));
+				yield deleted(index, "Figure");
+			}
+			case LINK_FIGURE_EVENT -> figure(index,
+					figureService.linkEvent(currentUser, id(operation), eventId(operation)));
+			case UNLINK_FIGURE_EVENT -> figure(index,
+					figureService.unlinkEvent(currentUser, id(operation), eventId(operation)));
+		};
+	}
+
+	private static Long id(BatchOperation operation) {
+		if (operation.getId() == null) {
+			throw new InvalidBatchException(operation.getOp() + " requires an id");
+		}
+		return operation.getId();
+	}
+
+	private static Long eventId(BatchOperation operation) {
+		if (operation.getEventId() == null) {
+			throw new InvalidBatchException(operation.getOp() + " requires an eventId");
+		}
+		return operation.getEventId();
+	}
+
+	/**
+	 * Reads and validates the body like @Valid @RequestBody would.
+	 */
+	private <T> T body(BatchOperation operation, Class<T> type) {
+		JsonNode body = operation.getBody();
+		if (body == null || !body.isObject()) {
+			throw new InvalidBatchException(operation.getOp() + " requires a body");
+		}
+		T request;
+		try {
+			request = objectMapper.treeToValue(body, type);
+		} catch (JsonProcessingException e) {
+			throw new InvalidBatchException("Invalid body for " + operation.getOp() + ": " + e.getOriginalMessage());
+		}
+		Set<ConstraintViolation<T>> violations = validator.validate(request);
+		if (!violations.isEmpty()) {
+			throw new InvalidBatchException(violations.stream()
+					.map(ConstraintViolation::getMessage)
+					.sorted()
+					.collect(Collectors.joining(", ")));
+		}
+		return request;
+	}
+
+	private static BatchResult world(int index, WorldResponse response) {
+		return new BatchResult(index, HttpStatus.OK.value(), response, response.getId());
+	}
+
+	private static BatchResult event(int index, EventResponse response) {
+		return new BatchResult(index, HttpStatus.OK.value(), response, response.getWorldId());
+	}
+
+	private static BatchResult figure(int index, FigureResponse response) {
+		return new BatchResult(index, HttpStatus.OK.value(), response, response.getWorldId());
+	}
+
+	private static BatchResult deleted(int index, String resourceName) {
+		return new BatchResult(index, HttpStatus.OK.value(),
+				Map.of("message", resourceName + " deleted successfully"), null);
+	}
+
+	/**
+	 * The status the REST endpoint would answer for an expected failure, or
+	 * null for anything else.
+	 */
+	private static HttpStatus statusOf(RuntimeException e) {
+		if (e instanceof WorldNotFoundException || e instanceof EventNotFoundException
+				|| e instanceof FigureNotFoundException) {
+			return HttpStatus.NOT_FOUND;
+		}
+		if (e instanceof InvalidBatchException || e instanceof InvalidYearException
+				|| e instanceof CrossWorldLinkingException || e instanceof InvalidFigureTypeException) {
+			return HttpStatus.BAD_REQUEST;
+		}
+		return null;
+	}
+}
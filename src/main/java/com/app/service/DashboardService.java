@@ -0,0 +1,147 @@
+package com.app.service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import com.app.config.VirtualThreads;
+import com.app.dto.event.EventResponse;
+import com.app.dto.figure.FigureResponse;
+import com.app.dto.world.WorldDashboardResponse;
+import com.app.dto.world.WorldResponse;
+import com.app.jdbc.SqlStatementStats;
+import com.app.model.FigureType;
+import com.app.model.Importance;
+import com.app.model.User;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Builds the world dashboard: the ownership check (and the world itself,
+ * usually cached) on the request thread, then the first events, the first
+ * figures and both count queries in parallel, each in its own read-only
+ * transaction on its own connection.
+ *
+ * With spring.jpa.open-in-view off (dev and prod profiles) the request
+ * thread holds no connection while it waits. Each query thread runs with the
+ * request's security context (for replica read-your-writes routing), and its
+ * SQL statements are added to the request's SqlStatementStats. If the
+ * executor is saturated a query runs on the request thread instead.
+ */
+@Service
+public class DashboardService {
+
+	private final WorldService worldService;
+	private final EventService eventService;
+	private final FigureService figureService;
+	private final ThreadPoolExecutor executor;
+
+	public DashboardService(WorldService worldService, EventService eventService, FigureService figureService,
+			@Value("${dashboard.executor.threads:8}") int threads,
+			@Value("${dashboard.executor.queue-size:32}") int queueSize,
+			@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		this.worldService = worldService;
+		this.eventService = eventService;
+		this.figureService = figureService;
+		this.executor = new ThreadPoolExecutor(Math.max(1, threads), Math.max(1, threads), 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+				VirtualThreads.threadFactory("dashboard-query", virtualThreads));
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	public WorldDashboardResponse getDashboard(User currentUser, Long worldId, int limit) {
+		// Throws WorldNotFoundException before any query is started
+		WorldResponse world = worldService.getWorldById(currentUser, worldId);
+
+		CompletableFuture<Part<List<EventResponse>>> events = submit(
+				() -> eventService.getFirstEventsInWorld(worldId, limit));
+		CompletableFuture<Part<List<FigureResponse>>> figures = submit(
+				() -> figureService.getFirstFiguresInWorld(worldId, limit));
+		CompletableFuture<Part<Map<Importance, Long>>> eventCounts = submit(
+				() -> eventService.countEventsByImportance(worldId));
+		CompletableFuture<Part<Map<FigureType, Long>>> figureCounts = submit(
+				() -> figureService.countFiguresByType(worldId));
+
+		Map<Importance, Long> eventsByImportance = zeroCounts(Importance.class);
+		long eventCount = 0;
+		for (Map.Entry<Importance, Long> count : join(eventCounts).entrySet()) {
+			if (count.getKey() != null) {
+				eventsByImportance.put(count.getKey(), count.getValue());
+			}
+			eventCount += count.getValue();
+		}
+		Map<FigureType, Long> figuresByType = zeroCounts(FigureType.class);
+		figuresByType.putAll(join(figureCounts));
+		long figureCount = figuresByType.values().stream().mapToLong(Long::longValue).sum();
+
+		return new WorldDashboardResponse(world, join(events), join(figures), eventCount, figureCount,
+				eventsByImportance, figuresByType);
+	}
+
+	private <T> CompletableFuture<Part<T>> submit(Supplier<T> query) {
+		SecurityContext securityContext = SecurityContextHolder.getContext();
+		try {
+			return CompletableFuture.supplyAsync(() -> {
+				SecurityContextHolder.setContext(securityContext);
+				SqlStatementStats stats = SqlStatementStats.start();
+				try {
+					return new Part<>(query.get(), stats);
+				} finally {
+					SqlStatementStats.stop();
+					SecurityContextHolder.clearContext();
+				}
+			}, executor);
+		} catch (RejectedExecutionException e) {
+			// Counted in the request's own stats
+			return CompletableFuture.completedFuture(new Part<>(query.get(), null));
+		}
+	}
+
+	/**
+	 * Waits for the query and adds its statements to the request's stats.
+	 */
+	private static <T> T join(CompletableFuture<Part<T>> future) {
+		Part<T> part;
+		try {
+			part = future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+		SqlStatementStats requestStats = SqlStatementStats.current();
+		if (part.stats() != null && requestStats != null) {
+			requestStats.add(part.stats());
+		}
+		return part.value();
+	}
+
+	private static <E extends Enum<E>> Map<E, Long> zeroCounts(Class<E> type) {
+		Map<E, Long> counts = new EnumMap<>(type);
+		for (E constant : type.getEnumConstants()) {
+			counts.put(constant, 0L);
+		}
+		return counts;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private record Part<T>(T value, SqlStatementStats stats) {
+	}
+}
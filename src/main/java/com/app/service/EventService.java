@@ -1,12 +1,21 @@
 package com.app.service;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.app.cache.CacheInvalidationBus;
+import com.app.cache.CacheRegistry;
+import com.app.cache.OwnedWorld;
 import com.app.dto.event.EventCreateRequest;
 import com.app.dto.event.EventResponse;
 import com.app.dto.event.EventUpdateRequest;
@@ -16,11 +25,14 @@ import com.app.exception.InvalidYearException;
 import com.app.exception.WorldNotFoundException;
 import com.app.model.Event;
 import com.app.model.Figure;
+import com.app.model.Importance;
 import com.app.model.User;
-import com.app.model.World;
 import com.app.repository.EventRepository;
 import com.app.repository.FigureRespository;
+import com.app.repository.SparseFieldRepository;
 import com.app.repository.WorldRepository;
+import com.app.timing.RequestTimer;
+import com.app.timing.RequestTimer.Phase;
 
 @Service
 public class EventService {
@@ -34,38 +46,121 @@ public class EventService {
 	@Autowired
 	private FigureRespository figureRepository;
 
+	@Autowired
+	private SparseFieldRepository sparseFieldRepository;
+
+	@Autowired
+	private CacheRegistry cacheRegistry;
+
+	@Autowired
+	private CacheInvalidationBus invalidationBus;
+
+	@Transactional
 	public EventResponse createEvent(User currentUser, EventCreateRequest request) {
-		World world = getWorld(currentUser, request.getWorldId());
+		OwnedWorld world = getWorld(currentUser, request.getWorldId());
 		validateYearInWorldBounds(request.getYear(), world);
 		Event event = new Event();
 		event.setTitle(request.getTitle());
 		event.setYear(request.getYear());
 		event.setDescription(request.getDescription());
 		event.setImportance(request.getImportance());
-		event.setWorld(world);
-		return toResponse(eventRepository.save(event));
+		event.setWorld(worldRepository.getReferenceById(world.getId()));
+		Event saved = eventRepository.save(event);
+		invalidationBus.publishEventChange(saved.getId(), world.getId());
+		return toResponse(saved);
 	}
 
+	@Transactional(readOnly = true)
 	public List<EventResponse> getEventsByWorldId(User currentUser, Long worldId) {
-		World world = getWorld(currentUser, worldId);
-		List<Event> events = eventRepository.findByWorldOrderByYearAsc(world);
+		OwnedWorld world = getWorld(currentUser, worldId);
+		return eventRepository.findResponsesByWorldId(world.getId());
+	}
+
+	/**
+	 * Passes the world's events in timeline order to the consumer as they are
+	 * read from a database cursor, so memory does not grow with the size of
+	 * the world. Does not check ownership; callers must.
+	 */
+	@Transactional(readOnly = true)
+	public void forEachEventInWorld(Long worldId, Consumer<EventResponse> consumer) {
+		try (Stream<EventResponse> events = eventRepository.streamResponsesByWorldId(worldId)) {
+			events.forEach(consumer);
+		}
+	}
+
+	/**
+	 * The first events of the world in timeline order. Does not check
+	 * ownership; callers must.
+	 */
+	@Transactional(readOnly = true)
+	public List<EventResponse> getFirstEventsInWorld(Long worldId, int limit) {
+		return eventRepository.findResponsesByWorldId(worldId, PageRequest.of(0, limit));
+	}
+
+	/**
+	 * Events of the given worlds that the user owns, in timeline order. Events
+	 * of other users' worlds are left out.
+	 */
+	@Transactional(readOnly = true)
+	public List<EventResponse> getEventsInWorlds(User currentUser, Collection<Long> worldIds) {
+		return eventRepository.findResponsesByWorldIdIn(worldIds, currentUser.getId());
+	}
+
+	/**
+	 * The given events that the user owns, in timeline order. Missing events
+	 * and events of other users' worlds are left out.
+	 */
+	@Transactional(readOnly = true)
+	public List<EventResponse> getEventsByIds(User currentUser, Collection<Long> ids) {
+		return eventRepository.findResponsesByIdIn(ids, currentUser.getId());
+	}
+
+	/**
+	 * Event count per importance (key null for events without one). Does not
+	 * check ownership; callers must.
+	 */
+	@Transactional(readOnly = true)
+	public Map<Importance, Long> countEventsByImportance(Long worldId) {
+		Map<Importance, Long> counts = new HashMap<>();
+		for (Object[] row : eventRepository.countByImportance(worldId)) {
+			counts.put((Importance) row[0], (Long) row[1]);
+		}
+		return counts;
+	}
+
+	/**
+	 * getEventsByWorldId narrowed to the given SparseFieldset.EVENTS fields.
+	 */
+	@Transactional(readOnly = true)
+	public List<Map<String, Object>> getEventsByWorldId(User currentUser, Long worldId, List<String> fields) {
+		OwnedWorld world = getWorld(currentUser, worldId);
+		try (Stream<Map<String, Object>> events = sparseFieldRepository.streamEvents(world.getId(), fields)) {
+			return events.collect(Collectors.toList());
+		}
+	}
 
-		List<EventResponse> eventsResponse = new ArrayList<>();
-		for (Event event : events) {
-			eventsResponse.add(toResponse(event));
+	/**
+	 * forEachEventInWorld narrowed to the given SparseFieldset.EVENTS fields.
+	 * Does not check ownership; callers must.
+	 */
+	@Transactional(readOnly = true)
+	public void forEachEventInWorld(Long worldId, List<String> fields, Consumer<Map<String, Object>> consumer) {
+		try (Stream<Map<String, Object>> events = sparseFieldRepository.streamEvents(worldId, fields)) {
+			events.forEach(consumer);
 		}
-		return eventsResponse;
 	}
 
+	@Transactional(readOnly = true)
 	public EventResponse getEventByIdAndWorldId(User currentUser, Long id) {
-		Event event = getEvent(id);
-		getWorld(currentUser, event.getWorld().getId());
-		return toResponse(event);
+		EventResponse event = eventRepository.findResponseById(id).orElseThrow(() -> new EventNotFoundException(id));
+		getWorld(currentUser, event.getWorldId());
+		return event;
 	}
 
+	@Transactional
 	public EventResponse updateEventById(User currentUser, Long id, EventUpdateRequest request) {
 		Event event = getEvent(id);
-		World world = getWorld(currentUser, event.getWorld().getId());
+		OwnedWorld world = getWorld(currentUser, event.getWorld().getId());
 
 		if (request.getTitle() != null) {
 			event.setTitle(request.getTitle());
@@ -83,13 +178,18 @@ public class EventService {
 			event.setYear(reqYear);
 		}
 
-		return toResponse(eventRepository.save(event));
+		// Flush so the response carries the new updated_at
+		Event saved = eventRepository.saveAndFlush(event);
+		invalidationBus.publishEventChange(saved.getId(), world.getId());
+		return toResponse(saved);
 	}
 
+	@Transactional
 	public void deleteEvent(User currentUser, Long id) {
 		Event event = getEvent(id);
 		getWorld(currentUser, event.getWorld().getId());
 		eventRepository.delete(event);
+		invalidationBus.publishEventChange(id, event.getWorld().getId());
 	}
 
 	@Transactional
@@ -104,6 +204,7 @@ public class EventService {
 		// Manipulate from owning side (Figure) for proper JPA persistence
 		figure.getEvents().add(event);
 		figureRepository.save(figure);
+		invalidationBus.publishFigureChange(figureId, figure.getWorld().getId());
 		
 		// Return refreshed event
 		return toResponse(eventRepository.findById(eventId).orElse(event));
@@ -119,6 +220,7 @@ public class EventService {
 		// Manipulate from owning side (Figure) for proper JPA persistence
 		figure.getEvents().remove(event);
 		figureRepository.save(figure);
+		invalidationBus.publishFigureChange(figureId, figure.getWorld().getId());
 		
 		// Return refreshed event
 		return toResponse(eventRepository.findById(eventId).orElse(event));
@@ -138,12 +240,18 @@ public class EventService {
 	}
 
 	private EventResponse toResponse(Event event) {
-		return new EventResponse(event.getId(), event.getTitle(), event.getYear(), event.getDescription(),
-				event.getImportance(), event.getWorld().getId(), event.getCreatedAt(), event.getUpdatedAt());
+		long start = RequestTimer.begin(Phase.MAPPING);
+		try {
+			return new EventResponse(event.getId(), event.getTitle(), event.getYear(), event.getDescription(),
+					event.getImportance(), event.getWorld().getId(), event.getCreatedAt(), event.getUpdatedAt());
+		} finally {
+			RequestTimer.end(Phase.MAPPING, start);
+		}
 	}
 
-	private World getWorld(User currentUser, Long worldId) {
-		return worldRepository.findByIdAndUser(worldId, currentUser)
+	private OwnedWorld getWorld(User currentUser, Long worldId) {
+		return cacheRegistry.findOwnedWorld(worldId, currentUser,
+				() -> worldRepository.findByIdAndUser(worldId, currentUser))
 				.orElseThrow(() -> new WorldNotFoundException("World not found or access denied"));
 	}
 
@@ -151,7 +259,7 @@ public class EventService {
 		return eventRepository.findById(id).orElseThrow(() -> new EventNotFoundException(id));
 	}
 
-	private void validateYearInWorldBounds(int year, World world) {
+	private void validateYearInWorldBounds(int year, OwnedWorld world) {
 		if (year < world.getStartYear() || year > world.getCurrentYear()) {
 			throw new InvalidYearException(
 					"Year must be between " + world.getStartYear() + " and " + world.getCurrentYear());
@@ -1,30 +1,46 @@
 package com.app.service;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.app.cache.CacheInvalidationBus;
+import com.app.cache.CacheRegistry;
+import com.app.cache.OwnedWorld;
+import com.app.dto.event.EventResponse;
 import com.app.dto.figure.FigureCreateRequest;
 import com.app.dto.figure.FigurePageResponse;
 import com.app.dto.figure.FigureResponse;
 import com.app.dto.figure.FigureUpdateRequest;
 import com.app.exception.CrossWorldLinkingException;
 import com.app.exception.EventNotFoundException;
+import com.app.exception.InvalidFigureTypeException;
 import com.app.exception.WorldNotFoundException;
 import com.app.model.Event;
 import com.app.model.Figure;
 import com.app.model.FigureType;
 import com.app.model.User;
-import com.app.model.World;
 import com.app.repository.EventRepository;
 import com.app.repository.FigureRespository;
+import com.app.repository.FigureRow;
+import com.app.repository.SparseFieldRepository;
 import com.app.repository.WorldRepository;
+import com.app.timing.RequestTimer;
+import com.app.timing.RequestTimer.Phase;
 
 @Service
 public class FigureService {
@@ -38,15 +54,26 @@ public class FigureService {
 	@Autowired
 	private EventRepository eventRepository;
 
+	@Autowired
+	private SparseFieldRepository sparseFieldRepository;
+
+	@Autowired
+	private CacheRegistry cacheRegistry;
+
+	@Autowired
+	private CacheInvalidationBus invalidationBus;
+
 	@Transactional
 	public FigureResponse createFigure(User currentUser, FigureCreateRequest request) {
-		World world = getWorld(currentUser, request.getWorldId());
+		OwnedWorld world = getWorld(currentUser, request.getWorldId());
 		Figure figure = new Figure();
 		figure.setName(request.getName());
-		figure.setType(FigureType.valueOf(request.getType().toUpperCase()));
+		figure.setType(parseType(request.getType()));
 		figure.setDescription(request.getDescription());
-		figure.setWorld(world);
-		return toResponse(figureRepository.save(figure));
+		figure.setWorld(worldRepository.getReferenceById(world.getId()));
+		Figure saved = figureRepository.save(figure);
+		invalidationBus.publishFigureChange(saved.getId(), world.getId());
+		return toResponse(saved);
 	}
 
 	@Transactional
@@ -54,53 +81,166 @@ public class FigureService {
 		Figure figure = getFigure(id);
 		getWorld(currentUser, figure.getWorld().getId());
 		figure.setName(request.getName());
-		figure.setType(FigureType.valueOf(request.getType().toUpperCase()));
+		figure.setType(parseType(request.getType()));
 		figure.setDescription(request.getDescription());
-		return toResponse(figureRepository.save(figure));
+		Figure saved = figureRepository.save(figure);
+		invalidationBus.publishFigureChange(id, saved.getWorld().getId());
+		return toResponse(saved);
 	}
 
+	@Transactional
 	public void deleteFigureById(User currentUser, Long id) {
 		Figure figure = getFigure(id);
 		getWorld(currentUser, figure.getWorld().getId());
 		figureRepository.delete(figure);
+		invalidationBus.publishFigureChange(id, figure.getWorld().getId());
 	}
 
 	@Transactional(readOnly = true)
 	public List<FigureResponse> getFiguresByWorldId(User currentUser, Long worldId, String search) {
-		World world = getWorld(currentUser, worldId);
-		List<Figure> figures = isSearchActive(search)
-				? figureRepository.findByWorldAndNameOrDescriptionContaining(world, search.trim())
-				: figureRepository.findByWorldOrderByCreatedAtAsc(world);
-		List<FigureResponse> figuresResponse = new ArrayList<>();
-		for (Figure figure : figures) {
-			figuresResponse.add(toResponse(figure));
+		OwnedWorld world = getWorld(currentUser, worldId);
+		List<FigureRow> rows = isSearchActive(search)
+				? figureRepository.findRowsByWorldIdAndNameOrDescriptionContaining(world.getId(), search.trim())
+				: figureRepository.findRowsByWorldId(world.getId());
+		List<FigureResponse> figuresResponse = new ArrayList<>(rows.size());
+		for (FigureRow row : rows) {
+			figuresResponse.add(toResponse(row));
 		}
 		return figuresResponse;
 	}
 
+	/**
+	 * Passes the world's figures (optionally filtered like
+	 * getFiguresByWorldId) to the consumer as they are read from a database
+	 * cursor, so memory does not grow with the size of the world. Does not
+	 * check ownership; callers must.
+	 */
+	@Transactional(readOnly = true)
+	public void forEachFigureInWorld(Long worldId, String search, Consumer<FigureResponse> consumer) {
+		try (Stream<FigureRow> rows = isSearchActive(search)
+				? figureRepository.streamRowsByWorldIdAndNameOrDescriptionContaining(worldId, search.trim())
+				: figureRepository.streamRowsByWorldId(worldId)) {
+			rows.forEach(row -> consumer.accept(toResponse(row)));
+		}
+	}
+
 	@Transactional(readOnly = true)
 	public FigurePageResponse getFiguresByWorldIdPaginated(User currentUser, Long worldId, int page, int limit,
 			String search) {
-		World world = getWorld(currentUser, worldId);
+		OwnedWorld world = getWorld(currentUser, worldId);
 		Pageable pageable = PageRequest.of(page, limit);
-		var figurePage = isSearchActive(search)
-				? figureRepository.findByWorldAndNameOrDescriptionContaining(world, search.trim(), pageable)
-				: figureRepository.findByWorldOrderByCreatedAtAsc(world, pageable);
+		Page<FigureRow> figurePage = isSearchActive(search)
+				? figureRepository.findRowsByWorldIdAndNameOrDescriptionContaining(world.getId(), search.trim(),
+						pageable)
+				: figureRepository.findRowsByWorldId(world.getId(), pageable);
 		List<FigureResponse> figuresResponse = figurePage.getContent().stream()
 				.map(this::toResponse)
 				.collect(Collectors.toList());
 		return new FigurePageResponse(figuresResponse, figurePage.getTotalElements(), page, limit);
 	}
 
+	/**
+	 * The first figures of the world in creation order. Does not check
+	 * ownership; callers must.
+	 */
+	@Transactional(readOnly = true)
+	public List<FigureResponse> getFirstFiguresInWorld(Long worldId, int limit) {
+		List<FigureRow> rows = figureRepository.findFirstRowsByWorldId(worldId, PageRequest.of(0, limit));
+		List<FigureResponse> figuresResponse = new ArrayList<>(rows.size());
+		for (FigureRow row : rows) {
+			figuresResponse.add(toResponse(row));
+		}
+		return figuresResponse;
+	}
+
+	/**
+	 * Figures of the given worlds that the user owns, in creation order.
+	 * Figures of other users' worlds are left out.
+	 */
+	@Transactional(readOnly = true)
+	public List<FigureResponse> getFiguresInWorlds(User currentUser, Collection<Long> worldIds) {
+		return toResponses(figureRepository.findRowsByWorldIdIn(worldIds, currentUser.getId()));
+	}
+
+	/**
+	 * Figures linked to any of the given events that the user owns, in
+	 * creation order, each with all its event ids.
+	 */
+	@Transactional(readOnly = true)
+	public List<FigureResponse> getFiguresLinkedToEvents(User currentUser, Collection<EventResponse> events) {
+		Set<Long> worldIds = new HashSet<>();
+		Set<Long> eventIds = new HashSet<>();
+		for (EventResponse event : events) {
+			worldIds.add(event.getWorldId());
+			eventIds.add(event.getId());
+		}
+		return toResponses(figureRepository.findRowsLinkedToEvents(worldIds, eventIds, currentUser.getId()));
+	}
+
+	/**
+	 * Figure count per type. Does not check ownership; callers must.
+	 */
+	@Transactional(readOnly = true)
+	public Map<FigureType, Long> countFiguresByType(Long worldId) {
+		Map<FigureType, Long> counts = new HashMap<>();
+		for (Object[] row : figureRepository.countByType(worldId)) {
+			counts.put((FigureType) row[0], (Long) row[1]);
+		}
+		return counts;
+	}
+
+	/**
+	 * getFiguresByWorldId narrowed to the given SparseFieldset.FIGURES fields.
+	 */
+	@Transactional(readOnly = true)
+	public List<Map<String, Object>> getFiguresByWorldId(User currentUser, Long worldId, String search,
+			List<String> fields) {
+		OwnedWorld world = getWorld(currentUser, worldId);
+		try (Stream<Map<String, Object>> figures = sparseFieldRepository.streamFigures(world.getId(),
+				searchTerm(search), fields)) {
+			return figures.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * forEachFigureInWorld narrowed to the given SparseFieldset.FIGURES fields.
+	 * Does not check ownership; callers must.
+	 */
+	@Transactional(readOnly = true)
+	public void forEachFigureInWorld(Long worldId, String search, List<String> fields,
+			Consumer<Map<String, Object>> consumer) {
+		try (Stream<Map<String, Object>> figures = sparseFieldRepository.streamFigures(worldId, searchTerm(search),
+				fields)) {
+			figures.forEach(consumer);
+		}
+	}
+
+	/**
+	 * getFiguresByWorldIdPaginated narrowed to the given
+	 * SparseFieldset.FIGURES fields.
+	 */
+	@Transactional(readOnly = true)
+	public FigurePageResponse getFiguresByWorldIdPaginated(User currentUser, Long worldId, int page, int limit,
+			String search, List<String> fields) {
+		OwnedWorld world = getWorld(currentUser, worldId);
+		Page<Map<String, Object>> figurePage = sparseFieldRepository.findFigures(world.getId(), searchTerm(search),
+				fields, PageRequest.of(page, limit));
+		return new FigurePageResponse(figurePage.getContent(), figurePage.getTotalElements(), page, limit);
+	}
+
+	private String searchTerm(String search) {
+		return isSearchActive(search) ? search.trim() : null;
+	}
+
 	private boolean isSearchActive(String search) {
 		return search != null && !search.isBlank();
 	}
 
 	@Transactional(readOnly = true)
 	public FigureResponse getFigureById(User currentUser, Long id) {
-		Figure figure = getFigure(id);
-		getWorld(currentUser, figure.getWorld().getId());
-		return toResponse(figure);
+		FigureRow row = figureRepository.findRowById(id).orElseThrow(() -> new FigureNotFoundException(id));
+		getWorld(currentUser, row.worldId());
+		return toResponse(row);
 	}
 
 	@Transactional
@@ -113,7 +253,9 @@ public class FigureService {
 		validateWorldIntegrity(figure, event);
 
 		figure.getEvents().add(event);
-		return toResponse(figureRepository.save(figure));
+		Figure saved = figureRepository.save(figure);
+		invalidationBus.publishFigureChange(figureId, saved.getWorld().getId());
+		return toResponse(saved);
 	}
 
 	@Transactional
@@ -124,7 +266,9 @@ public class FigureService {
 		getWorld(currentUser, event.getWorld().getId());
 
 		figure.getEvents().remove(event);
-		return toResponse(figureRepository.save(figure));
+		Figure saved = figureRepository.save(figure);
+		invalidationBus.publishFigureChange(figureId, saved.getWorld().getId());
+		return toResponse(saved);
 	}
 
 	private void validateWorldIntegrity(Figure figure, Event event) {
@@ -135,16 +279,51 @@ public class FigureService {
 		}
 	}
 
+	private FigureType parseType(String type) {
+		if (type != null) {
+			try {
+				return FigureType.valueOf(type.toUpperCase());
+			} catch (IllegalArgumentException e) {
+				// Fall through: not one of the enum's names
+			}
+		}
+		throw new InvalidFigureTypeException("Invalid figure type: " + type);
+	}
+
 	private FigureResponse toResponse(Figure figure) {
-		List<Long> eventIds = figure.getEvents().stream()
-				.map(Event::getId)
-				.collect(Collectors.toList());
-		return new FigureResponse(figure.getId(), figure.getName(), figure.getType(), figure.getDescription(),
-				figure.getWorld().getId(), eventIds, figure.getCreatedAt(), figure.getUpdatedAt());
+		long start = RequestTimer.begin(Phase.MAPPING);
+		try {
+			List<Long> eventIds = figure.getEvents().stream()
+					.map(Event::getId)
+					.collect(Collectors.toList());
+			return new FigureResponse(figure.getId(), figure.getName(), figure.getType(), figure.getDescription(),
+					figure.getWorld().getId(), eventIds, figure.getCreatedAt(), figure.getUpdatedAt());
+		} finally {
+			RequestTimer.end(Phase.MAPPING, start);
+		}
+	}
+
+	private List<FigureResponse> toResponses(List<FigureRow> rows) {
+		List<FigureResponse> figuresResponse = new ArrayList<>(rows.size());
+		for (FigureRow row : rows) {
+			figuresResponse.add(toResponse(row));
+		}
+		return figuresResponse;
+	}
+
+	private FigureResponse toResponse(FigureRow row) {
+		long start = RequestTimer.begin(Phase.MAPPING);
+		try {
+			return new FigureResponse(row.id(), row.name(), row.type(), row.description(), row.worldId(),
+					FigureRow.eventIds(row.eventIds()), row.createdAt(), row.updatedAt());
+		} finally {
+			RequestTimer.end(Phase.MAPPING, start);
+		}
 	}
 
-	private World getWorld(User currentUser, Long worldId) {
-		return worldRepository.findByIdAndUser(worldId, currentUser)
+	private OwnedWorld getWorld(User currentUser, Long worldId) {
+		return cacheRegistry.findOwnedWorld(worldId, currentUser,
+				() -> worldRepository.findByIdAndUser(worldId, currentUser))
 				.orElseThrow(() -> new WorldNotFoundException("World not found or access denied"));
 	}
 
@@ -1,19 +1,31 @@
 package com.app.service;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.app.cache.CachedUser;
+import com.app.cache.CacheRegistry;
 import com.app.repository.UserRepository;
+import com.app.timing.RequestTimer;
+import com.app.timing.RequestTimer.Phase;
 
 /**
  * UserDetailsService implementation for Spring Security.
  * 
  * Loads user from database by email and converts to Spring Security UserDetails.
  * This is used by JwtAuthenticationFilter to load user information.
+ * 
+ * Users whose email is listed in `admin.emails` (comma-separated) also get
+ * ROLE_ADMIN, which guards the /api/admin/** endpoints.
  */
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
@@ -21,9 +33,31 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private CacheRegistry cacheRegistry;
+
+	private final Set<String> adminEmails;
+
+	public UserDetailsServiceImpl(@Value("${admin.emails:}") String adminEmails) {
+		this.adminEmails = Stream.of(adminEmails.split(","))
+				.map(String::trim)
+				.filter(s -> !s.isEmpty())
+				.map(String::toLowerCase)
+				.collect(Collectors.toSet());
+	}
+
 	@Override
 	public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-		com.app.model.User appUser = userRepository.findByEmail(email);
+		CachedUser appUser;
+		long start = RequestTimer.begin(Phase.USER);
+		try {
+			appUser = cacheRegistry.users().getOrLoad(email, () -> {
+				com.app.model.User user = userRepository.findByEmail(email);
+				return user == null ? null : CachedUser.of(user);
+			});
+		} finally {
+			RequestTimer.end(Phase.USER, start);
+		}
 
 		if (appUser == null) {
 			throw new UsernameNotFoundException("User not found with email: " + email);
@@ -35,7 +69,13 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 		return User.builder()
 				.username(appUser.getEmail())
 				.password("") // Not used in JWT authentication
-				.authorities("ROLE_USER") // Default role
+				.authorities(isAdmin(appUser.getEmail())
+						? new String[] { "ROLE_USER", "ROLE_ADMIN" }
+						: new String[] { "ROLE_USER" })
 				.build();
 	}
+
+	private boolean isAdmin(String email) {
+		return email != null && adminEmails.contains(email.toLowerCase());
+	}
 }
@@ -1,52 +1,112 @@
 package com.app.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.app.cache.CacheInvalidationBus;
+import com.app.cache.CacheRegistry;
+import com.app.cache.OwnedWorld;
 import com.app.dto.world.WorldCreateRequest;
 import com.app.dto.world.WorldResponse;
 import com.app.dto.world.WorldUpdateRequest;
 import com.app.exception.WorldNotFoundException;
 import com.app.model.User;
 import com.app.model.World;
+import com.app.repository.UserRepository;
 import com.app.repository.WorldRepository;
+import com.app.timing.RequestTimer;
+import com.app.timing.RequestTimer.Phase;
 
 @Service
 public class WorldService {
 	@Autowired
 	private WorldRepository worldRepository;
 
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CacheRegistry cacheRegistry;
+
+	@Autowired
+	private CacheInvalidationBus invalidationBus;
+
+	@Transactional
 	public WorldResponse createWorld(User currentUser, WorldCreateRequest request) {
 		World world = new World();
 		world.setName(request.getName());
 		world.setStartYear(request.getStartYear());
 		world.setCurrentYear(request.getCurrentYear());
 		world.setDescription(request.getDescription());
-		world.setUser(currentUser);
+		world.setUser(userRepository.getReferenceById(currentUser.getId()));
 
 		World savedWorld = worldRepository.save(world);
+		invalidationBus.publishWorldChange(savedWorld.getId());
+		invalidationBus.publishUserChange(currentUser.getId());
 		return toResponse(savedWorld);
 	}
 
+	@Transactional(readOnly = true)
 	public WorldResponse getWorldById(User currentUser, Long id) {
-		World world = worldRepository.findByIdAndUser(id, currentUser)
+		OwnedWorld world = cacheRegistry.findOwnedWorld(id, currentUser,
+				() -> worldRepository.findByIdAndUser(id, currentUser))
 				.orElseThrow(() -> new WorldNotFoundException(id));
 		return toResponse(world);
 	}
 
+	@Transactional(readOnly = true)
 	public List<WorldResponse> getUserWorlds(User currentUser) {
-		List<World> worlds = worldRepository.findByUser(currentUser);
-		List<WorldResponse> responses = new ArrayList<>();
-		for (World world : worlds) {
+		Long userId = currentUser.getId();
+		List<OwnedWorld> worlds = cacheRegistry.userWorlds().getOrLoad(userId,
+				() -> worldRepository.findResponsesByUserId(userId).stream()
+						.map(world -> OwnedWorld.of(world, userId))
+						.toList());
+		// Fresh responses: the cached snapshots are shared, the DTOs have setters
+		List<WorldResponse> responses = new ArrayList<>(worlds.size());
+		for (OwnedWorld world : worlds) {
 			responses.add(toResponse(world));
 		}
-
 		return responses;
 	}
 
+	/**
+	 * getUserWorlds narrowed to the given SparseFieldset.WORLDS fields. The
+	 * full list is small and usually cached, so it is narrowed after loading.
+	 */
+	@Transactional(readOnly = true)
+	public List<Map<String, Object>> getUserWorlds(User currentUser, List<String> fields) {
+		List<WorldResponse> worlds = getUserWorlds(currentUser);
+		List<Map<String, Object>> narrowed = new ArrayList<>(worlds.size());
+		for (WorldResponse world : worlds) {
+			Map<String, Object> row = new LinkedHashMap<>();
+			for (String field : fields) {
+				row.put(field, fieldValue(world, field));
+			}
+			narrowed.add(row);
+		}
+		return narrowed;
+	}
+
+	private static Object fieldValue(WorldResponse world, String field) {
+		return switch (field) {
+			case "id" -> world.getId();
+			case "name" -> world.getName();
+			case "startYear" -> world.getStartYear();
+			case "currentYear" -> world.getCurrentYear();
+			case "description" -> world.getDescription();
+			case "createdAt" -> world.getCreatedAt();
+			case "updatedAt" -> world.getUpdatedAt();
+			default -> throw new IllegalArgumentException("Unknown world field " + field);
+		};
+	}
+
+	@Transactional
 	public WorldResponse updateWorld(User currentUser, Long id, WorldUpdateRequest request) {
 		World world = worldRepository.findByIdAndUser(id, currentUser)
 				.orElseThrow(() -> new WorldNotFoundException(id));
@@ -64,25 +124,45 @@ public class WorldService {
 			world.setDescription(request.getDescription());
 		}
 
-		worldRepository.save(world);
+		// Flush so the response carries the new updated_at
+		worldRepository.saveAndFlush(world);
+		invalidationBus.publishWorldChange(world.getId());
 		return toResponse(world);
 	}
 
+	@Transactional
 	public void deleteWorld(User currentUser, Long id) {
 		World world = worldRepository.findByIdAndUser(id, currentUser)
 				.orElseThrow(() -> new WorldNotFoundException(id));
 		worldRepository.delete(world);
+		invalidationBus.publishWorldChange(id);
+		invalidationBus.publishUserChange(currentUser.getId());
+	}
+
+	private WorldResponse toResponse(OwnedWorld world) {
+		long start = RequestTimer.begin(Phase.MAPPING);
+		try {
+			return new WorldResponse(world.getId(), world.getName(), world.getStartYear(), world.getCurrentYear(),
+					world.getDescription(), world.getCreatedAt(), world.getUpdatedAt());
+		} finally {
+			RequestTimer.end(Phase.MAPPING, start);
+		}
 	}
 
 	private WorldResponse toResponse(World world) {
-		WorldResponse response = new WorldResponse();
-		response.setId(world.getId());
-		response.setName(world.getName());
-		response.setStartYear(world.getStartYear());
-		response.setCurrentYear(world.getCurrentYear());
-		response.setDescription(world.getDescription());
-		response.setCreatedAt(world.getCreatedAt());
-		response.setUpdatedAt(world.getUpdatedAt());
-		return response;
+		long start = RequestTimer.begin(Phase.MAPPING);
+		try {
+			WorldResponse response = new WorldResponse();
+			response.setId(world.getId());
+			response.setName(world.getName());
+			response.setStartYear(world.getStartYear());
+			response.setCurrentYear(world.getCurrentYear());
+			response.setDescription(world.getDescription());
+			response.setCreatedAt(world.getCreatedAt());
+			response.setUpdatedAt(world.getUpdatedAt());
+			return response;
+		} finally {
+			RequestTimer.end(Phase.MAPPING, start);
+		}
 	}
 }
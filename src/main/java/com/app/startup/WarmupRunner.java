@@ -0,0 +1,284 @@
+package com.app.startup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.cache.HotWorldCacheWarmer;
+import com.app.cache.HotWorldTracker;
+import com.app.dto.admin.HotWorldResponse;
+import com.app.dto.event.EventResponse;
+import com.app.dto.figure.FigurePageResponse;
+import com.app.dto.figure.FigureResponse;
+import com.app.dto.world.WorldResponse;
+import com.app.model.FigureType;
+import com.app.model.Importance;
+import com.app.model.User;
+import com.app.model.World;
+import com.app.repository.EventRepository;
+import com.app.repository.FigureRespository;
+import com.app.repository.UserRepository;
+import com.app.repository.WorldRepository;
+import com.app.service.JwtService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Warms the application up before it reports ready.
+ *
+ * Spring Boot only switches readiness to ACCEPTING_TRAFFIC after all
+ * ApplicationRunners have finished, and /api/health reports 503 until then,
+ * so the load balancer keeps traffic away while this runs.
+ *
+ * Stages (each timed and logged, a failing stage is logged and skipped):
+ * - pool: opens the pool's minimum idle connections
+ * - repositories: runs every repository query shape once, each in its own
+ * read-only, rolled-back transaction, against ids that cannot exist
+ * (PostgreSQL only: the queries are written for it, so on other databases
+ * they would fail and only warm up the error path)
+ * - jwt: generates, validates and parses tokens
+ * - jackson: serializes every response DTO
+ * - worlds: preloads the hottest (after a restart: most recently updated)
+ * worlds into the cache
+ */
+@Component
+@Order(0)
+public class WarmupRunner implements ApplicationRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+	private static final Long MISSING_ID = -1L;
+	private static final String MISSING_EMAIL = "warmup@invalid";
+
+	private final DataSource dataSource;
+	private final TransactionTemplate readOnlyTransaction;
+	private final UserRepository userRepository;
+	private final WorldRepository worldRepository;
+	private final EventRepository eventRepository;
+	private final FigureRespository figureRepository;
+	private final JwtService jwtService;
+	private final ObjectMapper objectMapper;
+	private final HotWorldTracker hotWorldTracker;
+	private final HotWorldCacheWarmer hotWorldCacheWarmer;
+
+	@Value("${warmup.enabled:true}")
+	private boolean enabled;
+
+	@Value("${warmup.iterations:200}")
+	private int iterations;
+
+	@Value("${warmup.preload-worlds:50}")
+	private int preloadWorlds;
+
+	public WarmupRunner(DataSource dataSource, PlatformTransactionManager transactionManager,
+			UserRepository userRepository, WorldRepository worldRepository, EventRepository eventRepository,
+			FigureRespository figureRepository, JwtService jwtService, ObjectMapper objectMapper,
+			HotWorldTracker hotWorldTracker, HotWorldCacheWarmer hotWorldCacheWarmer) {
+		this.dataSource = dataSource;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.userRepository = userRepository;
+		this.worldRepository = worldRepository;
+		this.eventRepository = eventRepository;
+		this.figureRepository = figureRepository;
+		this.jwtService = jwtService;
+		this.objectMapper = objectMapper;
+		this.hotWorldTracker = hotWorldTracker;
+		this.hotWorldCacheWarmer = hotWorldCacheWarmer;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (!enabled) {
+			logger.info("Warm-up disabled");
+			return;
+		}
+
+		long start = System.nanoTime();
+		runStage("pool", this::warmPool);
+		runStage("repositories", this::warmRepositories);
+		runStage("jwt", this::warmJwt);
+		runStage("jackson", this::warmJackson);
+		runStage("worlds", this::preloadWorlds);
+		logger.info("Warm-up finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+	}
+
+	private void runStage(String name, WarmupStage stage) {
+		long start = System.nanoTime();
+		try {
+			String detail = stage.run();
+			logger.info("Warm-up stage '{}' finished in {} ms ({})", name, (System.nanoTime() - start) / 1_000_000,
+					detail);
+		} catch (Exception e) {
+			logger.warn("Warm-up stage '{}' failed after {} ms: {}", name, (System.nanoTime() - start) / 1_000_000,
+					e.getMessage());
+		}
+	}
+
+	private String warmPool() throws SQLException {
+		int connections = dataSource.isWrapperFor(HikariDataSource.class)
+				? Math.max(1, dataSource.unwrap(HikariDataSource.class).getMinimumIdle())
+				: 1;
+
+		// Hold them all at once so the pool really has to open that many
+		List<Connection> opened = new ArrayList<>();
+		try {
+			for (int i = 0; i < connections; i++) {
+				Connection connection = dataSource.getConnection();
+				opened.add(connection);
+				connection.isValid(5);
+			}
+		} finally {
+			for (Connection connection : opened) {
+				connection.close();
+			}
+		}
+		return connections + " connections";
+	}
+
+	private String warmRepositories() throws SQLException {
+		String database;
+		try (Connection connection = dataSource.getConnection()) {
+			database = connection.getMetaData().getDatabaseProductName();
+		}
+		if (!"PostgreSQL".equals(database)) {
+			return "skipped on " + database;
+		}
+
+		User missingUser = new User();
+		missingUser.setId(MISSING_ID);
+		World missingWorld = new World();
+		missingWorld.setId(MISSING_ID);
+		PageRequest firstPage = PageRequest.of(0, 20);
+
+		Map<String, Runnable> queries = new LinkedHashMap<>();
+		queries.put("users.findByEmail", () -> userRepository.findByEmail(MISSING_EMAIL));
+		queries.put("users.existsByEmail", () -> userRepository.existsByEmail(MISSING_EMAIL));
+		queries.put("users.findById", () -> userRepository.findById(MISSING_ID));
+
+		queries.put("worlds.findById", () -> worldRepository.findById(MISSING_ID));
+		queries.put("worlds.findResponsesByUserId", () -> worldRepository.findResponsesByUserId(MISSING_ID));
+		queries.put("worlds.findByIdAndUser", () -> worldRepository.findByIdAndUser(MISSING_ID, missingUser));
+		queries.put("worlds.findWithOwnerIdByIdIn", () -> worldRepository.findWithOwnerIdByIdIn(List.of(MISSING_ID)));
+		queries.put("worlds.findRecentlyUpdatedIds", () -> worldRepository.findRecentlyUpdatedIds(firstPage));
+
+		queries.put("events.findById", () -> eventRepository.findById(MISSING_ID));
+		queries.put("events.findByWorld", () -> eventRepository.findByWorld(missingWorld));
+		queries.put("events.findByIdAndWorld", () -> eventRepository.findByIdAndWorld(MISSING_ID, missingWorld));
+		queries.put("events.findResponseById", () -> eventRepository.findResponseById(MISSING_ID));
+		queries.put("events.findResponsesByWorldId", () -> eventRepository.findResponsesByWorldId(MISSING_ID));
+		queries.put("events.findResponsesByWorldId(page)",
+				() -> eventRepository.findResponsesByWorldId(MISSING_ID, firstPage));
+		queries.put("events.countByImportance", () -> eventRepository.countByImportance(MISSING_ID));
+		queries.put("events.findResponsesByWorldIdIn",
+				() -> eventRepository.findResponsesByWorldIdIn(List.of(MISSING_ID), MISSING_ID));
+		queries.put("events.findResponsesByIdIn",
+				() -> eventRepository.findResponsesByIdIn(List.of(MISSING_ID), MISSING_ID));
+
+		queries.put("figures.findById", () -> figureRepository.findById(MISSING_ID));
+		queries.put("figures.findByWorld", () -> figureRepository.findByWorld(missingWorld));
+		queries.put("figures.findByIdAndWorld", () -> figureRepository.findByIdAndWorld(MISSING_ID, missingWorld));
+		queries.put("figures.findRowById", () -> figureRepository.findRowById(MISSING_ID));
+		queries.put("figures.findRowsByWorldId", () -> figureRepository.findRowsByWorldId(MISSING_ID));
+		queries.put("figures.findRowsByWorldId(page)", () -> figureRepository.findRowsByWorldId(MISSING_ID, firstPage));
+		queries.put("figures.findFirstRowsByWorldId",
+				() -> figureRepository.findFirstRowsByWorldId(MISSING_ID, firstPage));
+		queries.put("figures.countByType", () -> figureRepository.countByType(MISSING_ID));
+		queries.put("figures.findRowsByWorldIdIn",
+				() -> figureRepository.findRowsByWorldIdIn(List.of(MISSING_ID), MISSING_ID));
+		queries.put("figures.findRowsLinkedToEvents",
+				() -> figureRepository.findRowsLinkedToEvents(List.of(MISSING_ID), List.of(MISSING_ID), MISSING_ID));
+		queries.put("figures.findRowsByWorldIdAndNameOrDescriptionContaining",
+				() -> figureRepository.findRowsByWorldIdAndNameOrDescriptionContaining(MISSING_ID, "warmup"));
+		queries.put("figures.findRowsByWorldIdAndNameOrDescriptionContaining(page)",
+				() -> figureRepository.findRowsByWorldIdAndNameOrDescriptionContaining(MISSING_ID, "warmup",
+						firstPage));
+
+		// One transaction per query: a failing query (on PostgreSQL it would abort
+		// a shared transaction) must not keep the others from warming up
+		int failed = 0;
+		for (Map.Entry<String, Runnable> query : queries.entrySet()) {
+			try {
+				readOnlyTransaction.executeWithoutResult(status -> {
+					query.getValue().run();
+					// Never leave anything behind, even by accident
+					status.setRollbackOnly();
+				});
+			} catch (RuntimeException e) {
+				failed++;
+				logger.warn("Warm-up query '{}' failed: {}", query.getKey(), e.getMessage());
+			}
+		}
+		return (queries.size() - failed) + "/" + queries.size() + " queries, read-only, rolled back";
+	}
+
+	private String warmJwt() {
+		for (int i = 0; i < iterations; i++) {
+			String token = jwtService.generateToken(MISSING_ID, MISSING_EMAIL);
+			jwtService.validateToken(token);
+			jwtService.extractEmail(token);
+			jwtService.extractUserId(token);
+		}
+		return iterations + " iterations";
+	}
+
+	private String warmJackson() throws JsonProcessingException {
+		LocalDateTime now = LocalDateTime.now();
+		List<EventResponse> events = new ArrayList<>();
+		List<FigureResponse> figures = new ArrayList<>();
+		for (long id = 1; id <= 20; id++) {
+			events.add(new EventResponse(id, "Event " + id, (int) id, "Description", Importance.MEDIUM, 1L, now, now));
+			figures.add(new FigureResponse(id, "Figure " + id, FigureType.PERSON, "Description", 1L,
+					List.of(id, id + 1), now, now));
+		}
+		WorldResponse world = new WorldResponse(1L, "World", 0, 100, "Description", now, now);
+		FigurePageResponse page = new FigurePageResponse(figures, figures.size(), 0, 20);
+		HotWorldResponse hotWorld = new HotWorldResponse(1L, 1);
+
+		long bytes = 0;
+		for (int i = 0; i < iterations; i++) {
+			bytes += objectMapper.writeValueAsBytes(events).length;
+			bytes += objectMapper.writeValueAsBytes(figures).length;
+			bytes += objectMapper.writeValueAsBytes(page).length;
+			bytes += objectMapper.writeValueAsBytes(List.of(world)).length;
+			bytes += objectMapper.writeValueAsBytes(hotWorld).length;
+		}
+		return iterations + " iterations, " + bytes / 1024 + " KiB";
+	}
+
+	private String preloadWorlds() {
+		if (preloadWorlds <= 0) {
+			return "disabled";
+		}
+		List<Long> worldIds = hotWorldTracker.topWorlds(preloadWorlds).stream()
+				.map(HotWorldResponse::getWorldId)
+				.toList();
+		if (worldIds.isEmpty()) {
+			// Access statistics are per process: after a restart use recent activity instead
+			worldIds = worldRepository.findRecentlyUpdatedIds(PageRequest.of(0, preloadWorlds));
+		}
+		return hotWorldCacheWarmer.warmWorlds(worldIds) + " worlds";
+	}
+
+	@FunctionalInterface
+	private interface WarmupStage {
+		String run() throws Exception;
+	}
+}
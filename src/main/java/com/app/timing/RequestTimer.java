@@ -0,0 +1,107 @@
+package com.app.timing;
+
+/**
+ * Per-request phase timers.
+ *
+ * Bound to the request thread by RequestTimingFilter while request timing is
+ * enabled. Instrumented code brackets a phase with:
+ *
+ * long start = RequestTimer.begin(Phase.MAPPING);
+ * try { ... } finally { RequestTimer.end(Phase.MAPPING, start); }
+ *
+ * Without a bound timer both calls are a single ThreadLocal lookup. Nested
+ * brackets of the same phase are only counted once (outermost).
+ * Phases may overlap each other, e.g. the user lookup includes its query.
+ */
+public final class RequestTimer {
+
+	public enum Phase {
+		/** Token parsing and validation in JwtAuthenticationFilter. */
+		JWT("jwt", "JWT validation"),
+		/** Loading the authenticated user (filter and controllers). */
+		USER("user", "User lookup"),
+		/** Entity to DTO mapping (toResponse), including lazy loads it triggers. */
+		MAPPING("mapping", "Entity mapping"),
+		/** Writing the response body. */
+		SERIALIZATION("serialization", "Response serialization");
+
+		private final String metricName;
+		private final String description;
+
+		Phase(String metricName, String description) {
+			this.metricName = metricName;
+			this.description = description;
+		}
+
+		public String getMetricName() {
+			return metricName;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+	}
+
+	private static final ThreadLocal<RequestTimer> CURRENT = new ThreadLocal<>();
+	private static final long NOT_TIMED = -1;
+
+	private final boolean serverTimingHeader;
+	private final long startNanos = System.nanoTime();
+	private final long[] phaseNanos = new long[Phase.values().length];
+	private final int[] depth = new int[Phase.values().length];
+
+	private RequestTimer(boolean serverTimingHeader) {
+		this.serverTimingHeader = serverTimingHeader;
+	}
+
+	/**
+	 * @param serverTimingHeader whether the Server-Timing header should be sent
+	 */
+	public static RequestTimer start(boolean serverTimingHeader) {
+		RequestTimer timer = new RequestTimer(serverTimingHeader);
+		CURRENT.set(timer);
+		return timer;
+	}
+
+	/**
+	 * Timer of the current request, or null if timing is disabled.
+	 */
+	public static RequestTimer current() {
+		return CURRENT.get();
+	}
+
+	public static void stop() {
+		CURRENT.remove();
+	}
+
+	public static long begin(Phase phase) {
+		RequestTimer timer = CURRENT.get();
+		if (timer == null || timer.depth[phase.ordinal()]++ > 0) {
+			return NOT_TIMED;
+		}
+		return System.nanoTime();
+	}
+
+	public static void end(Phase phase, long beginNanos) {
+		RequestTimer timer = CURRENT.get();
+		if (timer == null) {
+			return;
+		}
+		timer.depth[phase.ordinal()]--;
+		if (beginNanos != NOT_TIMED) {
+			timer.phaseNanos[phase.ordinal()] += System.nanoTime() - beginNanos;
+		}
+	}
+
+	public boolean isServerTimingHeader() {
+		return serverTimingHeader;
+	}
+
+	public double millis(Phase phase) {
+		return phaseNanos[phase.ordinal()] / 1_000_000.0;
+	}
+
+	public double elapsedMillis() {
+		return (System.nanoTime() - startNanos) / 1_000_000.0;
+	}
+}
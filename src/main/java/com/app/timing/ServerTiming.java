@@ -0,0 +1,55 @@
+package com.app.timing;
+
+import java.util.Locale;
+
+import com.app.jdbc.SqlStatementStats;
+import com.app.timing.RequestTimer.Phase;
+
+/**
+ * Formats request timings as a Server-Timing header and as a log line.
+ */
+public final class ServerTiming {
+
+	public static final String HEADER = "Server-Timing";
+
+	private ServerTiming() {
+	}
+
+	/**
+	 * Phases in request order, db before mapping, e.g.
+	 * jwt;dur=0.3;desc="JWT validation", db;dur=4;desc="3 statements", total;dur=12.8
+	 */
+	public static String header(RequestTimer timer, SqlStatementStats sql) {
+		StringBuilder header = new StringBuilder(256);
+		for (Phase phase : Phase.values()) {
+			if (phase == Phase.MAPPING && sql != null) {
+				header.append("db;dur=").append(sql.getDbTimeMillis()).append(";desc=\"")
+						.append(sql.getStatements()).append(" statements\", ");
+			}
+			header.append(phase.getMetricName()).append(";dur=").append(format(timer.millis(phase)))
+					.append(";desc=\"").append(phase.getDescription()).append("\", ");
+		}
+		return header.append("total;dur=").append(format(timer.elapsedMillis())).toString();
+	}
+
+	/**
+	 * key=value pairs for the slow-request log line.
+	 */
+	public static String breakdown(RequestTimer timer, SqlStatementStats sql) {
+		StringBuilder line = new StringBuilder(256);
+		line.append("total_ms=").append(format(timer.elapsedMillis()));
+		for (Phase phase : Phase.values()) {
+			if (phase == Phase.MAPPING && sql != null) {
+				line.append(" db_ms=").append(sql.getDbTimeMillis())
+						.append(" db_statements=").append(sql.getStatements())
+						.append(" db_rows=").append(sql.getRows());
+			}
+			line.append(' ').append(phase.getMetricName()).append("_ms=").append(format(timer.millis(phase)));
+		}
+		return line.toString();
+	}
+
+	private static String format(double millis) {
+		return String.format(Locale.ROOT, "%.1f", millis);
+	}
+}
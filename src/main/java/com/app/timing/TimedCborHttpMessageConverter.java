@@ -0,0 +1,27 @@
+package com.app.timing;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * CBOR converter that times serialization (see TimedWrite).
+ */
+public class TimedCborHttpMessageConverter extends MappingJackson2CborHttpMessageConverter {
+
+	public TimedCborHttpMessageConverter(ObjectMapper objectMapper) {
+		super(objectMapper);
+	}
+
+	@Override
+	protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+			throws IOException, HttpMessageNotWritableException {
+		TimedWrite.write(outputMessage, message -> super.writeInternal(object, type, message));
+	}
+}
@@ -0,0 +1,66 @@
+package com.app.timing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+
+import com.app.jdbc.SqlStatementStats;
+import com.app.timing.RequestTimer.Phase;
+
+/**
+ * Serialization timing shared by the Jackson converters (JSON, CBOR, Smile).
+ *
+ * When the Server-Timing header is requested the body is serialized into a
+ * buffer first, so the header (which must precede the body) can include the
+ * serialization time. Otherwise the body is streamed as usual.
+ */
+final class TimedWrite {
+
+	interface Body {
+		void writeTo(HttpOutputMessage outputMessage) throws IOException;
+	}
+
+	private TimedWrite() {
+	}
+
+	static void write(HttpOutputMessage outputMessage, Body body) throws IOException {
+		RequestTimer timer = RequestTimer.current();
+		if (timer == null) {
+			body.writeTo(outputMessage);
+			return;
+		}
+
+		if (!timer.isServerTimingHeader()) {
+			long start = RequestTimer.begin(Phase.SERIALIZATION);
+			try {
+				body.writeTo(outputMessage);
+			} finally {
+				RequestTimer.end(Phase.SERIALIZATION, start);
+			}
+			return;
+		}
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+		long start = RequestTimer.begin(Phase.SERIALIZATION);
+		try {
+			body.writeTo(new HttpOutputMessage() {
+				@Override
+				public OutputStream getBody() {
+					return buffer;
+				}
+
+				@Override
+				public HttpHeaders getHeaders() {
+					return outputMessage.getHeaders();
+				}
+			});
+		} finally {
+			RequestTimer.end(Phase.SERIALIZATION, start);
+		}
+		outputMessage.getHeaders().set(ServerTiming.HEADER, ServerTiming.header(timer, SqlStatementStats.current()));
+		buffer.writeTo(outputMessage.getBody());
+	}
+}
@@ -58,3 +58,10 @@ CREATE TABLE IF NOT EXISTS figure_events (
         REFERENCES events(id)
         ON DELETE CASCADE
 );
+
+-- World-scoped reads (timeline by year, figures by creation order) and
+-- cascading deletes must not scan the whole table
+CREATE INDEX IF NOT EXISTS idx_worlds_user_id ON worlds (user_id);
+CREATE INDEX IF NOT EXISTS idx_events_world_id_year ON events (world_id, year);
+CREATE INDEX IF NOT EXISTS idx_figures_world_id_created_at ON figures (world_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_figure_events_event_id ON figure_events (event_id);
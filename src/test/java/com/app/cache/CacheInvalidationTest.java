@@ -0,0 +1,183 @@
+package com.app.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.app.cache.InvalidationMessage.EntityType;
+import com.app.model.User;
+import com.app.model.World;
+import com.app.support.PostgresDatabase;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Tests for the local caches and the invalidation bus.
+ *
+ * What the bus sends is checked against PostgreSQL (see PostgresDatabase).
+ * The LISTEN/NOTIFY round trip needs a local PostgreSQL:
+ * export TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/postgres?user=postgres&password=postgres
+ * mvn test -Dtest=CacheInvalidationTest
+ */
+class CacheInvalidationTest {
+
+	@Test
+	void testMessageRoundTrip() {
+		InvalidationMessage message = new InvalidationMessage(EntityType.EVENT, 7L, 3L);
+
+		InvalidationMessage decoded = InvalidationMessage.decode(message.encode());
+		InvalidationMessage fromOlderNode = InvalidationMessage.decode("E:7:3:1729332000123");
+
+		assertEquals("E:7:3", message.encode());
+		assertEquals(EntityType.EVENT, decoded.getType());
+		assertEquals(7L, decoded.getId());
+		assertEquals(3L, decoded.getWorldId());
+		assertEquals(message.encode(), fromOlderNode.encode());
+	}
+
+	@Test
+	void testMalformedMessageIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> InvalidationMessage.decode("X:1:2:3"));
+		assertThrows(IllegalArgumentException.class, () -> InvalidationMessage.decode("W:1"));
+		assertThrows(IllegalArgumentException.class, () -> InvalidationMessage.decode("W:1:2:3:4"));
+		assertThrows(IllegalArgumentException.class, () -> InvalidationMessage.decode("W:a:2:3"));
+	}
+
+	@Test
+	void testLoadRacingWithInvalidationIsNotCached() {
+		LocalCache<String, String> cache = new LocalCache<>("test", 10, 60);
+
+		String loaded = cache.getOrLoad("key", () -> {
+			// A write on another node is applied while the read is in flight
+			cache.evict("key");
+			return "stale";
+		});
+
+		assertEquals("stale", loaded);
+		assertNull(cache.get("key"));
+	}
+
+	@Test
+	void testLeastRecentlyUsedEntryIsEvicted() {
+		LocalCache<String, String> cache = new LocalCache<>("test", 2, 60);
+		cache.put("a", "1");
+		cache.put("b", "2");
+		cache.get("a");
+		cache.put("c", "3");
+
+		assertEquals("1", cache.get("a"));
+		assertNull(cache.get("b"));
+		assertEquals("3", cache.get("c"));
+	}
+
+	@Test
+	void testUserMessageEvictsUserEntries() {
+		CacheRegistry registry = new CacheRegistry(true, 60, 10, 10, 10, null);
+		CachedUser user = new CachedUser(5L, "user@example.com");
+		registry.users().put(user.getEmail(), user);
+
+		registry.apply(new InvalidationMessage(EntityType.USER, 5L, 0L));
+
+		assertNull(registry.users().get(user.getEmail()));
+	}
+
+	@Test
+	void testCachedWorldIsASnapshot() {
+		CacheRegistry registry = new CacheRegistry(true, 60, 10, 10, 10, null);
+		User owner = new CachedUser(5L, "user@example.com").toUser();
+		World world = new World("W", 0, 100, "d", owner);
+		world.setId(3L);
+
+		OwnedWorld loaded = registry.findOwnedWorld(3L, owner, () -> Optional.of(world)).orElseThrow();
+		world.setName("Changed after caching");
+		OwnedWorld cached = registry.findOwnedWorld(3L, owner, Optional::empty).orElseThrow();
+
+		assertEquals("W", cached.getName());
+		assertEquals(100, cached.getCurrentYear());
+		assertTrue(registry.findOwnedWorld(3L, new CachedUser(6L, "other@example.com").toUser(), Optional::empty)
+				.isEmpty());
+		assertEquals(loaded.getId(), cached.getId());
+	}
+
+	@Test
+	@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+	void testNotificationFromAnotherNodeEvictsLocalEntry() throws Exception {
+		try (HikariDataSource dataSource = new HikariDataSource()) {
+			dataSource.setJdbcUrl(System.getenv("TEST_POSTGRES_URL"));
+			CacheRegistry registry = new CacheRegistry(true, 60, 10, 10, 10, null);
+			CacheInvalidationListener listener = new CacheInvalidationListener(dataSource, registry,
+					"storykeeper_cache_test", true, 200, 30000, 200);
+			listener.start();
+			try {
+				CachedUser user = new CachedUser(9L, "remote@example.com");
+				registry.users().put(user.getEmail(), user);
+
+				long deadline = System.currentTimeMillis() + 10000;
+				while (registry.users().get(user.getEmail()) != null && System.currentTimeMillis() < deadline) {
+					try (Connection connection = dataSource.getConnection();
+							PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+						statement.setString(1, "storykeeper_cache_test");
+						statement.setString(2, new InvalidationMessage(EntityType.USER, 9L, 0L).encode());
+						statement.execute();
+					}
+					Thread.sleep(200);
+				}
+
+				assertTrue(listener.isRunning());
+				assertNull(registry.users().get(user.getEmail()));
+			} finally {
+				listener.stop();
+			}
+		}
+	}
+
+	@Test
+	void testBusNotifiesEveryChange() throws Exception {
+		try (HikariDataSource dataSource = new HikariDataSource()) {
+			dataSource.setJdbcUrl(PostgresDatabase.freshSchema("cache_bus"));
+			JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+			CacheRegistry registry = new CacheRegistry(true, 60, 10, 10, 10, null);
+			CacheInvalidationListener listener = new CacheInvalidationListener(dataSource, registry,
+					"storykeeper_cache_bus", false, 200, 30000, 200);
+			CacheInvalidationBus node1 = new CacheInvalidationBus(registry, jdbcTemplate, listener,
+					"storykeeper_cache_bus");
+			CacheInvalidationBus node2 = new CacheInvalidationBus(registry, jdbcTemplate, listener,
+					"storykeeper_cache_bus");
+
+			try (Connection connection = dataSource.getConnection()) {
+				try (Statement statement = connection.createStatement()) {
+					statement.execute("LISTEN storykeeper_cache_bus");
+				}
+				node1.publishWorldChange(3L);
+				node2.publishEventChange(7L, 3L);
+				node1.publishFigureChange(8L, 3L);
+
+				List<InvalidationMessage> messages = new ArrayList<>();
+				long deadline = System.currentTimeMillis() + 10000;
+				while (messages.size() < 3 && System.currentTimeMillis() < deadline) {
+					PGNotification[] notifications = connection.unwrap(PGConnection.class).getNotifications(200);
+					for (PGNotification notification : notifications == null ? new PGNotification[0]
+							: notifications) {
+						messages.add(InvalidationMessage.decode(notification.getParameter()));
+					}
+				}
+
+				assertEquals(List.of("W:3:3", "E:7:3", "F:8:3"),
+						messages.stream().map(InvalidationMessage::encode).toList());
+			}
+		}
+	}
+}
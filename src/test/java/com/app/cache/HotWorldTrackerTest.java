@@ -0,0 +1,83 @@
+package com.app.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.app.dto.admin.HotWorldResponse;
+
+/**
+ * Tests for the count-min sketch and hot-world ranking.
+ */
+class HotWorldTrackerTest {
+
+	@Test
+	void testSketchNeverUndercounts() {
+		CountMinSketch sketch = new CountMinSketch(256, 4);
+		for (long key = 0; key < 1000; key++) {
+			for (int i = 0; i < key % 7; i++) {
+				sketch.increment(key);
+			}
+		}
+
+		for (long key = 0; key < 1000; key++) {
+			assertTrue(sketch.estimate(key) >= key % 7);
+		}
+	}
+
+	@Test
+	void testAgingHalvesEstimates() {
+		CountMinSketch sketch = new CountMinSketch(64, 2);
+		for (int i = 0; i < 10; i++) {
+			sketch.increment(42L);
+		}
+
+		sketch.halve();
+
+		assertEquals(5, sketch.estimate(42L));
+	}
+
+	@Test
+	void testSkewedTrafficRanksHotWorldsFirst() {
+		HotWorldTracker tracker = new HotWorldTracker(1024, 4, 4);
+		for (long worldId = 1; worldId <= 100; worldId++) {
+			tracker.recordAccess(worldId);
+		}
+		for (int i = 0; i < 50; i++) {
+			tracker.recordAccess(7L);
+			tracker.recordAccess(13L);
+		}
+		for (int i = 0; i < 20; i++) {
+			tracker.recordAccess(99L);
+		}
+
+		List<HotWorldResponse> top = tracker.topWorlds(3);
+
+		assertEquals(List.of(7L, 13L, 99L), top.stream().map(HotWorldResponse::getWorldId).toList());
+		assertTrue(tracker.shouldAdmit(7L, 50L));
+		assertFalse(tracker.shouldAdmit(50L, 7L));
+	}
+
+	@Test
+	void testColdCandidateDoesNotDisplaceHotEntry() {
+		HotWorldTracker tracker = new HotWorldTracker(1024, 4, 16);
+		LocalCache<Long, String> cache = new LocalCache<>("worlds", 1, 60);
+		cache.setAdmissionPolicy(tracker::shouldAdmit);
+		for (int i = 0; i < 10; i++) {
+			tracker.recordAccess(1L);
+		}
+		tracker.recordAccess(2L);
+
+		cache.put(1L, "hot");
+		cache.put(2L, "cold");
+
+		assertNotNull(cache.get(1L));
+		assertNull(cache.get(2L));
+	}
+}
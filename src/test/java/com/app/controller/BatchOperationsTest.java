@@ -0,0 +1,173 @@
+package com.app.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.app.support.ApiClient;
+import com.app.support.ApiTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Batches go through the same service methods as the REST endpoints, and an
+ * ALL_OR_NOTHING batch leaves nothing behind when one operation fails.
+ */
+@ApiTest
+class BatchOperationsTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private ApiClient api;
+	private String authorization;
+	private long worldId;
+	private long eventId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		api = new ApiClient(mockMvc, objectMapper);
+		authorization = api.registerNewUser();
+		worldId = api.createWorld("W");
+		eventId = api.postJson("/api/events", "{\"title\":\"E\",\"year\":10,\"description\":\"d\",\"worldId\":"
+				+ worldId + "}").get("id").asLong();
+	}
+
+	@Test
+	void testAllOrNothingAppliesEveryOperation() throws Exception {
+		JsonNode response = batch(200, "{\"operations\":["
+				+ createEvent("Second", 20) + ","
+				+ "{\"op\":\"UPDATE_EVENT\",\"id\":" + eventId + ",\"body\":{\"title\":\"First\"}},"
+				+ "{\"op\":\"CREATE_FIGURE\",\"body\":{\"name\":\"F\",\"type\":\"person\",\"description\":\"d\","
+				+ "\"worldId\":" + worldId + "}}]}");
+
+		assertEquals("ALL_OR_NOTHING", response.get("mode").asText());
+		assertTrue(response.get("committed").asBoolean());
+		JsonNode results = response.get("results");
+		assertEquals(3, results.size());
+		for (int i = 0; i < 3; i++) {
+			assertEquals(i, results.get(i).get("index").asInt());
+			assertEquals(200, results.get(i).get("status").asInt());
+		}
+		assertEquals("First", results.get(1).get("body").get("title").asText());
+
+		long figureId = results.get(2).get("body").get("id").asLong();
+		JsonNode linked = batch(200, "{\"operations\":[{\"op\":\"LINK_FIGURE_EVENT\",\"id\":" + figureId
+				+ ",\"eventId\":" + eventId + "}]}");
+		assertEquals(eventId, linked.get("results").get(0).get("body").get("eventIds").get(0).asLong());
+
+		JsonNode events = api.getJson("/api/events?worldId=" + worldId);
+		assertEquals(2, events.size());
+		assertEquals("First", events.get(0).get("title").asText());
+		assertEquals(results.get(2).get("body").get("id"),
+				api.getJson("/api/figures/" + figureId).get("id"));
+	}
+
+	@Test
+	void testAllOrNothingRollsBackOnFailure() throws Exception {
+		JsonNode response = batch(404, "{\"mode\":\"ALL_OR_NOTHING\",\"operations\":["
+				+ createEvent("Second", 20) + ","
+				+ "{\"op\":\"UPDATE_EVENT\",\"id\":999999,\"body\":{\"title\":\"Missing\"}},"
+				+ createEvent("Third", 30) + "]}");
+
+		assertFalse(response.get("committed").asBoolean());
+		JsonNode results = response.get("results");
+		assertEquals(424, results.get(0).get("status").asInt());
+		assertEquals(404, results.get(1).get("status").asInt());
+		assertEquals("Event not found with id: 999999", results.get(1).get("body").get("message").asText());
+		assertEquals(424, results.get(2).get("status").asInt());
+		assertEquals(1, api.getJson("/api/events?worldId=" + worldId).size());
+	}
+
+	@Test
+	void testRolledBackChangesAreNotCached() throws Exception {
+		// Evicts the world cached by setUp, so the batch's event lookup caches the renamed one
+		mockMvc.perform(patch("/api/worlds/" + worldId).header("Authorization", authorization)
+				.contentType(MediaType.APPLICATION_JSON).content("{\"description\":\"d2\"}"))
+				.andExpect(status().isOk());
+		batch(400, "{\"operations\":["
+				+ "{\"op\":\"UPDATE_WORLD\",\"id\":" + worldId + ",\"body\":{\"name\":\"Renamed\"}},"
+				+ createEvent("Second", 20) + ","
+				+ createEvent("Out of bounds", 500) + "]}");
+
+		assertEquals("W", api.getJson("/api/worlds/" + worldId).get("name").asText());
+		assertEquals(1, api.getJson("/api/events?worldId=" + worldId).size());
+	}
+
+	@Test
+	void testBestEffortKeepsSuccessfulOperations() throws Exception {
+		JsonNode response = batch(200, "{\"mode\":\"BEST_EFFORT\",\"operations\":["
+				+ createEvent("Second", 20) + ","
+				+ "{\"op\":\"DELETE_FIGURE\",\"id\":999999},"
+				+ "{\"op\":\"CREATE_FIGURE\",\"body\":{\"name\":\"F\",\"type\":\"dragon\",\"description\":\"d\","
+				+ "\"worldId\":" + worldId + "}},"
+				+ "{\"op\":\"UPDATE_EVENT\",\"body\":{\"title\":\"No id\"}},"
+				+ "{\"op\":\"DELETE_EVENT\",\"id\":" + eventId + "}]}");
+
+		assertTrue(response.get("committed").asBoolean());
+		JsonNode results = response.get("results");
+		assertEquals(200, results.get(0).get("status").asInt());
+		assertEquals(404, results.get(1).get("status").asInt());
+		assertEquals(400, results.get(2).get("status").asInt());
+		assertEquals("Invalid figure type: dragon", results.get(2).get("body").get("message").asText());
+		assertEquals(400, results.get(3).get("status").asInt());
+		assertEquals("UPDATE_EVENT requires an id", results.get(3).get("body").get("message").asText());
+		assertEquals("Event deleted successfully", results.get(4).get("body").get("message").asText());
+
+		JsonNode events = api.getJson("/api/events?worldId=" + worldId);
+		assertEquals(1, events.size());
+		assertEquals("Second", events.get(0).get("title").asText());
+	}
+
+	@Test
+	void testInvalidBodiesAndOtherUsersWorlds() throws Exception {
+		JsonNode response = batch(400, "{\"operations\":["
+				+ "{\"op\":\"CREATE_EVENT\",\"body\":{\"year\":1,\"worldId\":" + worldId + "}}]}");
+		assertEquals("Description is required, Title is required",
+				response.get("results").get(0).get("body").get("message").asText());
+
+		long otherWorldId = worldId;
+		setUp();
+		batch(404, "{\"operations\":[{\"op\":\"DELETE_WORLD\",\"id\":" + otherWorldId + "}]}");
+	}
+
+	@Test
+	void testBatchSizeIsLimited() throws Exception {
+		StringBuilder operations = new StringBuilder();
+		for (int i = 0; i < 6; i++) {
+			operations.append(i > 0 ? "," : "").append(createEvent("E" + i, i));
+		}
+		JsonNode response = batch(400, "{\"operations\":[" + operations + "]}");
+
+		assertEquals("A batch can have at most 5 operations", response.get("message").asText());
+		batch(400, "{\"operations\":[]}");
+	}
+
+	private String createEvent(String title, int year) {
+		return "{\"op\":\"CREATE_EVENT\",\"body\":{\"title\":\"" + title + "\",\"year\":" + year
+				+ ",\"description\":\"d\",\"worldId\":" + worldId + "}}";
+	}
+
+	private JsonNode batch(int expectedStatus, String body) throws Exception {
+		MvcResult result = mockMvc.perform(post("/api/batch").header("Authorization", authorization)
+				.contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().is(expectedStatus))
+				.andReturn();
+		String content = result.getResponse().getContentAsString();
+		return content.isEmpty() ? null : objectMapper.readTree(content);
+	}
+}
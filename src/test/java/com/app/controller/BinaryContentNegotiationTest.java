@@ -0,0 +1,86 @@
+package com.app.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.app.support.ApiClient;
+import com.app.support.ApiTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * CBOR and Smile responses carry the same document as the JSON one and are
+ * only returned when asked for.
+ */
+@ApiTest
+class BinaryContentNegotiationTest {
+
+	private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private ApiClient api;
+	private String authorization;
+	private long worldId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		api = new ApiClient(mockMvc, objectMapper);
+		authorization = api.registerNewUser();
+		worldId = api.createWorld("W");
+		long eventId = api.postJson("/api/events", "{\"title\":\"E\",\"year\":10,\"description\":\"d\","
+				+ "\"importance\":\"HIGH\",\"worldId\":" + worldId + "}").get("id").asLong();
+		long figureId = api.postJson("/api/figures", "{\"name\":\"F\",\"type\":\"person\",\"description\":\"d\","
+				+ "\"worldId\":" + worldId + "}").get("id").asLong();
+		api.linkFigure(figureId, eventId);
+	}
+
+	@Test
+	void testCborMatchesJson() throws Exception {
+		for (String path : new String[] { "/api/worlds", "/api/worlds/" + worldId, "/api/events?worldId=" + worldId,
+				"/api/figures?worldId=" + worldId, "/api/figures?worldId=" + worldId + "&limit=5" }) {
+			assertEquals(api.getJson(path), new CBORMapper().readTree(getBinary(path, MediaType.APPLICATION_CBOR)), path);
+		}
+	}
+
+	@Test
+	void testSmileMatchesJson() throws Exception {
+		String path = "/api/events?worldId=" + worldId;
+
+		JsonNode events = new SmileMapper().readTree(getBinary(path, SMILE));
+
+		assertEquals(api.getJson(path), events);
+		assertTrue(events.get(0).get("createdAt").isTextual());
+	}
+
+	@Test
+	void testJsonStaysTheDefault() throws Exception {
+		mockMvc.perform(get("/api/events").param("worldId", String.valueOf(worldId))
+				.header("Authorization", authorization)
+				.accept(MediaType.ALL))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+	}
+
+	private byte[] getBinary(String path, MediaType mediaType) throws Exception {
+		return mockMvc.perform(get(path).header("Authorization", authorization).accept(mediaType))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(mediaType))
+				.andReturn().getResponse().getContentAsByteArray();
+	}
+}
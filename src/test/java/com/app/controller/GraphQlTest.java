@@ -0,0 +1,173 @@
+package com.app.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import com.app.support.ApiClient;
+import com.app.support.ApiTest;
+import com.app.support.QueryBudget;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * GraphQL returns the same data as the REST endpoints in nested shapes, with
+ * one query per nested field however many parents it has, and only for the
+ * signed-in user's worlds.
+ */
+@ApiTest
+class GraphQlTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private ApiClient api;
+	private String authorization;
+	private long worldId;
+	private List<Long> eventIds;
+	private long figureId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		api = new ApiClient(mockMvc, objectMapper);
+		authorization = api.registerNewUser();
+		worldId = api.createWorld("W");
+		eventIds = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			// Created in reverse timeline order
+			eventIds.add(api.postJson("/api/events", "{\"title\":\"E" + i + "\",\"year\":" + (50 - i * 10)
+					+ ",\"description\":\"d\",\"worldId\":" + worldId + "}").get("id").asLong());
+		}
+		for (int i = 0; i < 3; i++) {
+			figureId = api.postJson("/api/figures", "{\"name\":\"F" + i + "\",\"type\":\"person\","
+					+ "\"description\":\"d\",\"worldId\":" + worldId + "}").get("id").asLong();
+			for (int e = i; e < eventIds.size(); e += 2) {
+				api.linkFigure(figureId, eventIds.get(e));
+			}
+		}
+	}
+
+	@Test
+	void testWorldWithEventsAndTheirFigures() throws Exception {
+		JsonNode world = graphql("{ world(id: " + worldId + ") { name events { id title year figures { name } } } }",
+				QueryBudget.noStatementRepeatedMoreThan(1), QueryBudget.statementsAtMost(3))
+				.get("data").get("world");
+
+		assertEquals("W", world.get("name").asText());
+		JsonNode events = world.get("events");
+		JsonNode restEvents = api.getJson("/api/events?worldId=" + worldId);
+		assertEquals(restEvents.size(), events.size());
+		for (int i = 0; i < events.size(); i++) {
+			assertEquals(restEvents.get(i).get("id").asLong(), events.get(i).get("id").asLong());
+			assertEquals(restEvents.get(i).get("year").asInt(), events.get(i).get("year").asInt());
+		}
+		// E4 (year 10) is linked to F0 and F2 (every other event from their first)
+		assertEquals("E4", events.get(0).get("title").asText());
+		assertEquals(List.of("F0", "F2"), names(events.get(0).get("figures")));
+		assertEquals(List.of("F1"), names(events.get(1).get("figures")));
+	}
+
+	@Test
+	void testFigureWithItsEventTimeline() throws Exception {
+		JsonNode figure = graphql("{ figure(id: " + figureId + ") { name eventIds events { title year world { id } } } }",
+				QueryBudget.noStatementRepeatedMoreThan(1))
+				.get("data").get("figure");
+
+		assertEquals("F2", figure.get("name").asText());
+		assertEquals(2, figure.get("eventIds").size());
+		JsonNode events = figure.get("events");
+		assertEquals("E4", events.get(0).get("title").asText());
+		assertEquals("E2", events.get(1).get("title").asText());
+		assertEquals(worldId, events.get(1).get("world").get("id").asLong());
+	}
+
+	@Test
+	void testNestedFieldsAreBatchedAcrossParents() throws Exception {
+		long otherWorldId = api.createWorld("Other");
+		api.postJson("/api/events",
+				"{\"title\":\"O\",\"year\":1,\"description\":\"d\",\"worldId\":" + otherWorldId + "}");
+
+		JsonNode worlds = graphql("{ worlds { name events { title figures { id } } figures { name } } }",
+				QueryBudget.noStatementRepeatedMoreThan(1))
+				.get("data").get("worlds");
+
+		assertEquals(2, worlds.size());
+		for (JsonNode world : worlds) {
+			assertEquals(world.get("name").asText().equals("W") ? 5 : 1, world.get("events").size());
+			assertEquals(world.get("name").asText().equals("W") ? 3 : 0, world.get("figures").size());
+		}
+	}
+
+	@Test
+	void testOtherUsersWorldsAreNotFound() throws Exception {
+		authorization = api.registerNewUser();
+
+		JsonNode response = graphql("{ world(id: " + worldId + ") { name } event(id: " + eventIds.get(0)
+				+ ") { title } figure(id: " + figureId + ") { name } worlds { id } }");
+
+		assertTrue(response.get("data").get("world").isNull());
+		assertTrue(response.get("data").get("event").isNull());
+		assertTrue(response.get("data").get("figure").isNull());
+		assertEquals(0, response.get("data").get("worlds").size());
+		assertEquals(3, response.get("errors").size());
+		for (JsonNode error : response.get("errors")) {
+			assertEquals("NOT_FOUND", error.get("extensions").get("classification").asText());
+		}
+	}
+
+	@Test
+	void testRequiresAuthentication() throws Exception {
+		mockMvc.perform(post("/api/graphql").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"query\":\"{ worlds { id } }\"}"))
+				.andExpect(status().is4xxClientError());
+	}
+
+	@Test
+	void testDepthAndComplexityLimits() throws Exception {
+		JsonNode tooDeep = graphql("{ figure(id: " + figureId + ") { events { world { events { id } } } } }");
+		assertTrue(tooDeep.get("data") == null || tooDeep.get("data").isNull());
+		assertTrue(tooDeep.get("errors").get(0).get("message").asText().contains("depth"));
+
+		JsonNode tooComplex = graphql("{ worlds { id name description startYear currentYear createdAt updatedAt "
+				+ "events { id title year description importance createdAt updatedAt "
+				+ "figures { id name type description eventIds createdAt updatedAt } } } }");
+		assertTrue(tooComplex.get("data") == null || tooComplex.get("data").isNull());
+		assertTrue(tooComplex.get("errors").get(0).get("message").asText().contains("complexity"));
+	}
+
+	private static List<String> names(JsonNode figures) {
+		List<String> names = new ArrayList<>();
+		figures.forEach(figure -> names.add(figure.get("name").asText()));
+		return names;
+	}
+
+	private JsonNode graphql(String query, ResultMatcher... matchers) throws Exception {
+		MvcResult started = mockMvc.perform(post("/api/graphql").header("Authorization", authorization)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(Map.of("query", query))))
+				.andReturn();
+		MvcResult result = mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andExpectAll(matchers)
+				.andReturn();
+		return objectMapper.readTree(result.getResponse().getContentAsString());
+	}
+}
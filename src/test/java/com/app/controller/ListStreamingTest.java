@@ -0,0 +1,134 @@
+package com.app.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.app.support.ApiClient;
+import com.app.support.ApiTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+/**
+ * Streamed list responses (list-streaming.enabled) keep the JSON of the
+ * materialized lists and the ownership check.
+ */
+@ApiTest
+@TestPropertySource(properties = {
+		"spring.datasource.url=jdbc:h2:mem:liststreaming;NON_KEYWORDS=YEAR,VALUE",
+		"list-streaming.enabled=true"
+})
+class ListStreamingTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private ApiClient api;
+	private String authorization;
+	private long worldId;
+	private long eventId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		api = new ApiClient(mockMvc, objectMapper);
+		authorization = api.registerNewUser();
+		worldId = api.createWorld("W");
+		for (int year = 30; year > 0; year -= 10) {
+			eventId = api.postJson("/api/events", "{\"title\":\"E" + year + "\",\"year\":" + year
+					+ ",\"description\":\"d\",\"importance\":\"HIGH\",\"worldId\":" + worldId + "}").get("id").asLong();
+		}
+		for (String name : new String[] { "Silver Fox", "Iron Duke", "Silver Moon" }) {
+			long figureId = api.postJson("/api/figures", "{\"name\":\"" + name + "\",\"type\":\"person\","
+					+ "\"description\":\"d\",\"worldId\":" + worldId + "}").get("id").asLong();
+			api.linkFigure(figureId, eventId);
+		}
+	}
+
+	@Test
+	void testEventsAreStreamedInTimelineOrder() throws Exception {
+		JsonNode events = getStreamed("/api/events?worldId=" + worldId);
+
+		assertEquals(3, events.size());
+		assertEquals("E10", events.get(0).get("title").asText());
+		assertEquals("E30", events.get(2).get("title").asText());
+		assertEquals(worldId, events.get(0).get("worldId").asLong());
+	}
+
+	@Test
+	void testFiguresAreStreamedWithEventIds() throws Exception {
+		JsonNode figures = getStreamed("/api/figures?worldId=" + worldId);
+
+		assertEquals(3, figures.size());
+		assertEquals("Silver Fox", figures.get(0).get("name").asText());
+		assertEquals(eventId, figures.get(0).get("eventIds").get(0).asLong());
+		assertEquals(2, getStreamed("/api/figures?worldId=" + worldId + "&search=silver").size());
+	}
+
+	@Test
+	void testFieldsNarrowStreamedElements() throws Exception {
+		JsonNode events = getStreamed("/api/events?worldId=" + worldId + "&fields=title,year");
+		JsonNode figures = getStreamed("/api/figures?worldId=" + worldId + "&fields=name,eventIds");
+
+		assertEquals("{\"title\":\"E10\",\"year\":10}", events.get(0).toString());
+		assertEquals("{\"name\":\"Silver Fox\",\"eventIds\":[" + eventId + "]}", figures.get(0).toString());
+	}
+
+	@Test
+	void testEventsAreStreamedAsCborWhenAccepted() throws Exception {
+		MvcResult started = mockMvc.perform(get("/api/events?worldId=" + worldId)
+				.header("Authorization", authorization)
+				.header("Accept", "application/cbor, application/json;q=0.5"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		MvcResult result = mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andReturn();
+
+		assertEquals("application/cbor", result.getResponse().getContentType());
+		assertEquals(getStreamed("/api/events?worldId=" + worldId),
+				new CBORMapper().readTree(result.getResponse().getContentAsByteArray()));
+	}
+
+	@Test
+	void testPaginatedFiguresAreNotStreamed() throws Exception {
+		mockMvc.perform(get("/api/figures?worldId=" + worldId + "&page=0&limit=2")
+				.header("Authorization", authorization))
+				.andExpect(request().asyncNotStarted())
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void testOtherUsersWorldIsNotFound() throws Exception {
+		authorization = api.registerNewUser();
+
+		mockMvc.perform(get("/api/figures").param("worldId", String.valueOf(worldId))
+				.header("Authorization", authorization))
+				.andExpect(request().asyncNotStarted())
+				.andExpect(status().isNotFound());
+	}
+
+	private JsonNode getStreamed(String path) throws Exception {
+		MvcResult started = mockMvc.perform(get(path).header("Authorization", authorization))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		MvcResult result = mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andReturn();
+		assertEquals(MediaType.APPLICATION_JSON_VALUE, result.getResponse().getContentType());
+		return objectMapper.readTree(result.getResponse().getContentAsString());
+	}
+}
@@ -0,0 +1,297 @@
+package com.app.controller;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.app.dto.admin.SlowQueryResponse;
+import com.app.jdbc.SlowQueryLog;
+import com.app.support.LargeWorldGenerator;
+import com.app.support.PostgresDatabase;
+import com.app.support.QueryBudget;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Performance regression suite against a real PostgreSQL (see
+ * PostgresDatabase; skipped when none is available).
+ *
+ * LargeWorldGenerator seeds WORLDS worlds of EVENTS_PER_WORLD events and
+ * FIGURES_PER_WORLD figures each, then the tables are analyzed. For every
+ * endpoint the suite asserts:
+ * - a statement budget (QueryBudget), as in QueryBudgetTest
+ * - a latency ceiling for the median of MEASURED_REQUESTS warm requests,
+ * multiplied by -Dquery-budget.latency-tolerance (default 1) for slow machines
+ * - that no world-scoped statement reads events or figures with a sequential
+ * scan: every statement counts as slow here, so SlowQueryLog captures one
+ * EXPLAIN plan per statement shape
+ *
+ * mvn test -Dtest=PostgresQueryBudgetTest -Dquery-budget.latency-tolerance=2
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+		"JWT_SECRET=test-secret-key-for-jwt-service-testing-must-be-at-least-32-characters-long-for-hmac-sha256",
+		"cache.enabled=false",
+		"slow-query.threshold-ms=0",
+		"slow-query.capacity=5000",
+		"slow-query.explain-queue-size=1000",
+		"logging.level.com.app.jdbc.SlowQueryLog=ERROR",
+		"logging.level.com.app.filter.SqlBudgetFilter=ERROR"
+})
+class PostgresQueryBudgetTest {
+
+	private static final int WORLDS = 40;
+	private static final int EVENTS_PER_WORLD = 2500;
+	private static final int FIGURES_PER_WORLD = 250;
+	private static final int WARMUP_REQUESTS = 10;
+	private static final int MEASURED_REQUESTS = 21;
+	private static final double LATENCY_TOLERANCE = Double
+			.parseDouble(System.getProperty("query-budget.latency-tolerance", "1"));
+	private static final Pattern WORLD_SCOPED_TABLES = Pattern.compile("\\b(from|join) (events|figures)\\b");
+
+	// Generated ids are sequential: user 1 owns worlds 1 and 2, world 1 holds the first events and figures
+	private static final long WORLD_ID = 1;
+	private static final long EVENT_ID = 1;
+	private static final long FIGURE_ID = 1;
+	private static final String WORLD_WITH_EVENTS_AND_FIGURES = "{ world(id: " + WORLD_ID + ") { name "
+			+ "events { id title year importance figures { id name } } } }";
+
+	private static String jdbcUrl;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private SlowQueryLog slowQueryLog;
+
+	private String authorization;
+
+	@BeforeAll
+	static void seed() throws Exception {
+		jdbcUrl = PostgresDatabase.freshSchema("query_budget");
+
+		LargeWorldGenerator.Settings settings = new LargeWorldGenerator.Settings();
+		settings.users = WORLDS / 2;
+		settings.worldsPerUser = 2;
+		settings.eventsPerWorld = EVENTS_PER_WORLD;
+		settings.figuresPerWorld = FIGURES_PER_WORLD;
+		settings.createSchema = true;
+		try (Connection connection = DriverManager.getConnection(jdbcUrl + "&reWriteBatchedInserts=true")) {
+			new LargeWorldGenerator(connection, settings).generate();
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("ANALYZE");
+			}
+		}
+	}
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", () -> jdbcUrl);
+	}
+
+	@BeforeEach
+	void login() throws Exception {
+		MvcResult result = mockMvc.perform(post("/api/login").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"email\":\"generated-1@example.test\",\"password\":\"" + LargeWorldGenerator.PASSWORD
+						+ "\"}"))
+				.andExpect(status().isOk())
+				.andReturn();
+		authorization = "Bearer "
+				+ objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+	}
+
+	@Test
+	void testWorldList() throws Exception {
+		assertWithinBudget("/api/worlds", 3, 50);
+	}
+
+	@Test
+	void testWorld() throws Exception {
+		assertWithinBudget("/api/worlds/" + WORLD_ID, 3, 50);
+	}
+
+	@Test
+	void testTimeline() throws Exception {
+		assertWithinBudget("/api/events?worldId=" + WORLD_ID, 4, 400);
+	}
+
+	@Test
+	void testEvent() throws Exception {
+		assertWithinBudget("/api/events/" + EVENT_ID, 4, 50);
+	}
+
+	@Test
+	void testFigurePage() throws Exception {
+		assertWithinBudget("/api/figures?worldId=" + WORLD_ID + "&limit=20", 5, 150);
+	}
+
+	@Test
+	void testFigureSearchPage() throws Exception {
+		assertWithinBudget("/api/figures?worldId=" + WORLD_ID + "&limit=20&search=storm", 5, 150);
+	}
+
+	@Test
+	void testEventTimelineFields() throws Exception {
+		assertWithinBudget("/api/events?worldId=" + WORLD_ID + "&fields=id,title,year,importance", 4, 400);
+	}
+
+	@Test
+	void testFigurePageFields() throws Exception {
+		assertWithinBudget("/api/figures?worldId=" + WORLD_ID + "&limit=20&fields=id,name,eventIds", 5, 150);
+	}
+
+	@Test
+	void testWorldDashboard() throws Exception {
+		assertWithinBudget("/api/worlds/" + WORLD_ID + "/dashboard", 7, 150);
+	}
+
+	@Test
+	void testGraphQlWorldWithEventsAndFigures() throws Exception {
+		assertWithinBudget(() -> graphQl(WORLD_WITH_EVENTS_AND_FIGURES), 5, 500);
+	}
+
+	@Test
+	void testFigure() throws Exception {
+		assertWithinBudget("/api/figures/" + FIGURE_ID, 4, 50);
+	}
+
+	@Test
+	void testWorldScopedStatementsUseIndexes() throws Exception {
+		for (String path : List.of("/api/worlds", "/api/worlds/" + WORLD_ID, "/api/events?worldId=" + WORLD_ID,
+				"/api/events/" + EVENT_ID, "/api/figures?worldId=" + WORLD_ID + "&limit=20",
+				"/api/figures?worldId=" + WORLD_ID + "&limit=20&search=storm", "/api/figures/" + FIGURE_ID,
+				"/api/worlds/" + WORLD_ID + "/dashboard")) {
+			request(path);
+		}
+		request(graphQl(WORLD_WITH_EVENTS_AND_FIGURES));
+		request(graphQl("{ figure(id: " + FIGURE_ID + ") { events { title world { name } } } }"));
+
+		List<String> violations = new ArrayList<>();
+		for (SlowQueryResponse entry : explainedStatements()) {
+			if (entry.getPlanError() != null) {
+				violations.add(entry.getStatement() + " could not be explained: " + entry.getPlanError());
+			} else if (WORLD_SCOPED_TABLES.matcher(entry.getStatement()).find()
+					&& (entry.getSequentialScans().contains("events")
+							|| entry.getSequentialScans().contains("figures"))) {
+				violations.add(entry.getStatement() + " scans " + entry.getSequentialScans() + ": " + entry.getPlan());
+			}
+		}
+		assertTrue(violations.isEmpty(), () -> "Sequential scans on world-scoped tables:\n"
+				+ String.join("\n", violations));
+	}
+
+	private void assertWithinBudget(String path, int maxStatements, long maxMedianMillis) throws Exception {
+		assertWithinBudget(() -> get(path), maxStatements, maxMedianMillis);
+	}
+
+	private void assertWithinBudget(Supplier<MockHttpServletRequestBuilder> request, int maxStatements,
+			long maxMedianMillis) throws Exception {
+		MvcResult first = request(request.get()).andExpect(QueryBudget.statementsAtMost(maxStatements)).andReturn();
+		String name = first.getRequest().getMethod() + " " + first.getRequest().getRequestURI();
+
+		for (int i = 0; i < WARMUP_REQUESTS; i++) {
+			request(request.get());
+		}
+		long[] nanos = new long[MEASURED_REQUESTS];
+		for (int i = 0; i < MEASURED_REQUESTS; i++) {
+			long start = System.nanoTime();
+			request(request.get());
+			nanos[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(nanos);
+		double medianMillis = nanos[MEASURED_REQUESTS / 2] / 1_000_000.0;
+		double ceiling = maxMedianMillis * LATENCY_TOLERANCE;
+		assertTrue(medianMillis <= ceiling, () -> String.format(
+				"Median latency of %s was %.1f ms, ceiling %.0f ms", name, medianMillis, ceiling));
+	}
+
+	private void request(String path) throws Exception {
+		request(get(path));
+	}
+
+	/**
+	 * Performs the request, and its async dispatch if it started one (GraphQL).
+	 */
+	private ResultActions request(MockHttpServletRequestBuilder request) throws Exception {
+		ResultActions actions = mockMvc.perform(request.header("Authorization", authorization));
+		MvcResult result = actions.andReturn();
+		if (result.getRequest().isAsyncStarted()) {
+			actions = mockMvc.perform(asyncDispatch(result));
+		}
+		return actions.andExpect(status().isOk());
+	}
+
+	private MockHttpServletRequestBuilder graphQl(String query) {
+		try {
+			return post("/api/graphql").contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsString(Map.of("query", query)));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * One entry per explained statement shape, once the explain thread has
+	 * caught up with every SELECT recorded so far.
+	 */
+	private List<SlowQueryResponse> explainedStatements() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 30000;
+		while (true) {
+			List<SlowQueryResponse> entries = slowQueryLog.recent(Integer.MAX_VALUE, false);
+			Set<String> pending = new HashSet<>();
+			List<SlowQueryResponse> explained = new ArrayList<>();
+			for (SlowQueryResponse entry : entries) {
+				if (entry.getStatement().regionMatches(true, 0, "select", 0, 6)) {
+					pending.add(entry.getStatement());
+				}
+			}
+			for (SlowQueryResponse entry : entries) {
+				if (entry.getPlan() != null || entry.getPlanError() != null) {
+					pending.remove(entry.getStatement());
+					explained.add(entry);
+				}
+			}
+			if (pending.isEmpty()) {
+				return explained;
+			}
+			if (System.currentTimeMillis() > deadline) {
+				fail("Statements never explained: " + pending);
+			}
+			Thread.sleep(100);
+		}
+	}
+}
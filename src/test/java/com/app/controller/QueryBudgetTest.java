@@ -0,0 +1,92 @@
+package com.app.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.app.support.ApiClient;
+import com.app.support.ApiTest;
+import com.app.support.QueryBudget;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Query budgets per endpoint, measured at the JDBC level.
+ *
+ * Caches are disabled, so every request also pays for its two user lookups
+ * (authentication and current user). That needs a context, and so a
+ * database, of its own.
+ */
+@ApiTest
+@TestPropertySource(properties = {
+		"spring.datasource.url=jdbc:h2:mem:querybudget;NON_KEYWORDS=YEAR,VALUE",
+		"cache.enabled=false"
+})
+class QueryBudgetTest {
+
+	private static final int FIGURES = 4;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private String authorization;
+	private long worldId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		ApiClient api = new ApiClient(mockMvc, objectMapper);
+		authorization = api.registerNewUser();
+		worldId = api.createWorld("W");
+
+		long eventId = api.postJson("/api/events", "{\"title\":\"E\",\"year\":10,\"description\":\"d\","
+				+ "\"importance\":\"HIGH\",\"worldId\":" + worldId + "}").get("id").asLong();
+		for (int i = 0; i < FIGURES; i++) {
+			long figureId = api.postJson("/api/figures", "{\"name\":\"F" + i + "\",\"type\":\"person\","
+					+ "\"description\":\"d\",\"worldId\":" + worldId + "}").get("id").asLong();
+			api.linkFigure(figureId, eventId);
+		}
+	}
+
+	@Test
+	void testWorldListStaysWithinBudget() throws Exception {
+		mockMvc.perform(get("/api/worlds").header("Authorization", authorization))
+				.andExpect(status().isOk())
+				.andExpect(QueryBudget.statementsAtMost(3))
+				.andExpect(QueryBudget.noStatementRepeatedMoreThan(2));
+	}
+
+	@Test
+	void testEventListStaysWithinBudget() throws Exception {
+		mockMvc.perform(get("/api/events").param("worldId", String.valueOf(worldId))
+				.header("Authorization", authorization))
+				.andExpect(status().isOk())
+				.andExpect(QueryBudget.statementsAtMost(4))
+				.andExpect(QueryBudget.noStatementRepeatedMoreThan(2));
+	}
+
+	@Test
+	void testFigureListLoadsEventIdsInTheSameQuery() throws Exception {
+		MvcResult result = mockMvc.perform(get("/api/figures").param("worldId", String.valueOf(worldId))
+				.header("Authorization", authorization))
+				.andExpect(status().isOk())
+				.andExpect(QueryBudget.statementsAtMost(4))
+				.andExpect(QueryBudget.noStatementRepeatedMoreThan(2))
+				.andReturn();
+
+		JsonNode figures = objectMapper.readTree(result.getResponse().getContentAsString());
+		assertEquals(FIGURES, figures.size());
+		for (JsonNode figure : figures) {
+			assertEquals(1, figure.get("eventIds").size());
+		}
+	}
+}
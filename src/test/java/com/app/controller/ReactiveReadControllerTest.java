@@ -0,0 +1,105 @@
+package com.app.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.app.support.ApiClient;
+import com.app.support.ApiTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The reactive read path must return the same JSON as the blocking endpoints
+ * and apply the same ownership check.
+ */
+@ApiTest
+class ReactiveReadControllerTest {
+
+	private static final int FIGURES = 5;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private ApiClient api;
+	private String authorization;
+	private long worldId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		api = new ApiClient(mockMvc, objectMapper);
+		authorization = api.registerNewUser();
+		worldId = api.createWorld("W");
+
+		long eventId = 0;
+		for (int year = 30; year > 0; year -= 10) {
+			eventId = api.postJson("/api/events", "{\"title\":\"E" + year + "\",\"year\":" + year
+					+ ",\"description\":\"d\",\"importance\":\"HIGH\",\"worldId\":" + worldId + "}").get("id").asLong();
+		}
+		for (int i = 0; i < FIGURES; i++) {
+			long figureId = api.postJson("/api/figures", "{\"name\":\"" + (i % 2 == 0 ? "Silver " : "Iron ") + i
+					+ "\",\"type\":\"person\",\"description\":\"d\",\"worldId\":" + worldId + "}").get("id").asLong();
+			if (i < 2) {
+				api.linkFigure(figureId, eventId);
+			}
+		}
+	}
+
+	@Test
+	void testEventsMatchBlockingEndpoint() throws Exception {
+		JsonNode streamed = getStreamed("/api/reactive/events?worldId=" + worldId);
+
+		assertEquals(3, streamed.size());
+		assertEquals(api.getJson("/api/events?worldId=" + worldId), streamed);
+	}
+
+	@Test
+	void testFiguresMatchBlockingEndpoint() throws Exception {
+		JsonNode streamed = getStreamed("/api/reactive/figures?worldId=" + worldId);
+
+		assertEquals(FIGURES, streamed.size());
+		assertEquals(1, streamed.get(0).get("eventIds").size());
+		assertEquals(api.getJson("/api/figures?worldId=" + worldId), streamed);
+		assertEquals(api.getJson("/api/figures?worldId=" + worldId + "&search=silver"),
+				getStreamed("/api/reactive/figures?worldId=" + worldId + "&search=silver"));
+	}
+
+	@Test
+	void testOtherUsersWorldIsNotFound() throws Exception {
+		authorization = api.registerNewUser();
+
+		mockMvc.perform(get("/api/reactive/events").param("worldId", String.valueOf(worldId))
+				.header("Authorization", authorization))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void testEmptyWorldIsAnEmptyArray() throws Exception {
+		long emptyWorldId = api.createWorld("Empty");
+
+		assertEquals(0, getStreamed("/api/reactive/figures?worldId=" + emptyWorldId).size());
+	}
+
+	private JsonNode getStreamed(String path) throws Exception {
+		MvcResult started = mockMvc.perform(get(path).header("Authorization", authorization))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		MvcResult result = mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andReturn();
+		assertEquals(MediaType.APPLICATION_JSON_VALUE, result.getResponse().getContentType());
+		return objectMapper.readTree(result.getResponse().getContentAsString());
+	}
+}
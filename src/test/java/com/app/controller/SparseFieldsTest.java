@@ -0,0 +1,110 @@
+package com.app.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.app.support.ApiClient;
+import com.app.support.ApiTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * fields= narrows list responses to the selected fields, with the same values
+ * as the full response.
+ */
+@ApiTest
+class SparseFieldsTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private ApiClient api;
+	private String authorization;
+	private long worldId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		api = new ApiClient(mockMvc, objectMapper);
+		authorization = api.registerNewUser();
+		worldId = api.createWorld("W");
+		long eventId = 0;
+		for (int year = 30; year > 0; year -= 10) {
+			eventId = api.postJson("/api/events", "{\"title\":\"E" + year + "\",\"year\":" + year
+					+ ",\"description\":\"d\",\"importance\":\"HIGH\",\"worldId\":" + worldId + "}").get("id").asLong();
+		}
+		for (String name : new String[] { "Silver Fox", "Iron Duke", "Silver Moon" }) {
+			long figureId = api.postJson("/api/figures", "{\"name\":\"" + name + "\",\"type\":\"person\","
+					+ "\"description\":\"d\",\"worldId\":" + worldId + "}").get("id").asLong();
+			if (!name.startsWith("Iron")) {
+				api.linkFigure(figureId, eventId);
+			}
+		}
+	}
+
+	@Test
+	void testEventFields() throws Exception {
+		String path = "/api/events?worldId=" + worldId;
+
+		assertEquals(narrow(api.getJson(path), "id", "title", "year", "importance"),
+				api.getJson(path + "&fields=year,title,importance,id"));
+	}
+
+	@Test
+	void testFigureFieldsWithAndWithoutEventIds() throws Exception {
+		String path = "/api/figures?worldId=" + worldId;
+
+		assertEquals(narrow(api.getJson(path), "name", "eventIds"), api.getJson(path + "&fields=name,eventIds"));
+		assertEquals(narrow(api.getJson(path), "id", "type"), api.getJson(path + "&fields=id,type"));
+		assertEquals(narrow(api.getJson(path + "&search=silver"), "name"), api.getJson(path + "&search=silver&fields=name"));
+	}
+
+	@Test
+	void testFigurePageFields() throws Exception {
+		String path = "/api/figures?worldId=" + worldId + "&page=1&limit=2";
+		JsonNode full = api.getJson(path);
+		JsonNode narrowed = api.getJson(path + "&fields=id,eventIds");
+
+		assertEquals(3, narrowed.get("total").asInt());
+		assertEquals(2, narrowed.get("totalPages").asInt());
+		assertEquals(narrow(full.get("figures"), "id", "eventIds"), narrowed.get("figures"));
+	}
+
+	@Test
+	void testWorldFields() throws Exception {
+		assertEquals(narrow(api.getJson("/api/worlds"), "id", "name"), api.getJson("/api/worlds?fields=name,id"));
+	}
+
+	@Test
+	void testUnknownFieldIsBadRequest() throws Exception {
+		mockMvc.perform(get("/api/events").param("worldId", String.valueOf(worldId)).param("fields", "id,secret")
+				.header("Authorization", authorization))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value(containsString("secret")));
+	}
+
+	private JsonNode narrow(JsonNode elements, String... fields) {
+		for (JsonNode element : elements) {
+			Iterator<String> names = element.fieldNames();
+			while (names.hasNext()) {
+				if (!List.of(fields).contains(names.next())) {
+					names.remove();
+				}
+			}
+		}
+		return elements;
+	}
+}
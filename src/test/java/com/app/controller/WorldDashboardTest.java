@@ -0,0 +1,102 @@
+package com.app.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.app.support.ApiClient;
+import com.app.support.ApiTest;
+import com.app.support.QueryBudget;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The dashboard combines what the separate endpoints return, behind one
+ * ownership check, and its parallel queries count towards the request.
+ */
+@ApiTest
+class WorldDashboardTest {
+
+	private static final String[] IMPORTANCES = { "HIGH", "LOW", "HIGH", null, "MEDIUM" };
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private ApiClient api;
+	private String authorization;
+	private long worldId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		api = new ApiClient(mockMvc, objectMapper);
+		authorization = api.registerNewUser();
+		worldId = api.createWorld("W");
+		long eventId = 0;
+		for (int i = 0; i < IMPORTANCES.length; i++) {
+			String importance = IMPORTANCES[i] != null ? "\"" + IMPORTANCES[i] + "\"" : "null";
+			eventId = api.postJson("/api/events", "{\"title\":\"E" + i + "\",\"year\":" + (50 - i * 10)
+					+ ",\"description\":\"d\",\"importance\":" + importance + ",\"worldId\":" + worldId + "}")
+					.get("id").asLong();
+		}
+		for (String type : new String[] { "person", "person", "person" }) {
+			long figureId = api.postJson("/api/figures", "{\"name\":\"F\",\"type\":\"" + type + "\","
+					+ "\"description\":\"d\",\"worldId\":" + worldId + "}").get("id").asLong();
+			api.linkFigure(figureId, eventId);
+		}
+	}
+
+	@Test
+	void testDashboardMatchesSeparateEndpoints() throws Exception {
+		JsonNode dashboard = api.getJson("/api/worlds/" + worldId + "/dashboard?limit=2");
+
+		assertEquals(api.getJson("/api/worlds/" + worldId), dashboard.get("world"));
+		JsonNode events = api.getJson("/api/events?worldId=" + worldId);
+		assertEquals(2, dashboard.get("events").size());
+		assertEquals(events.get(0), dashboard.get("events").get(0));
+		assertEquals(events.get(1), dashboard.get("events").get(1));
+		assertEquals(api.getJson("/api/figures?worldId=" + worldId + "&limit=2").get("figures"),
+				dashboard.get("figures"));
+	}
+
+	@Test
+	void testCounts() throws Exception {
+		JsonNode dashboard = api.getJson("/api/worlds/" + worldId + "/dashboard");
+
+		assertEquals(5, dashboard.get("eventCount").asLong());
+		assertEquals(2, dashboard.get("eventsByImportance").get("HIGH").asLong());
+		assertEquals(1, dashboard.get("eventsByImportance").get("LOW").asLong());
+		assertEquals(1, dashboard.get("eventsByImportance").get("MEDIUM").asLong());
+		assertEquals(3, dashboard.get("figureCount").asLong());
+		assertEquals(3, dashboard.get("figuresByType").get("PERSON").asLong());
+		assertEquals(0, dashboard.get("figuresByType").get("FACTION").asLong());
+	}
+
+	@Test
+	void testParallelQueriesCountTowardsTheRequest() throws Exception {
+		MvcResult result = mockMvc.perform(get("/api/worlds/" + worldId + "/dashboard")
+				.header("Authorization", authorization))
+				.andExpect(status().isOk())
+				.andExpect(QueryBudget.statementsAtMost(6))
+				.andReturn();
+
+		assertTrue(QueryBudget.statsOf(result).getStatements() >= 4);
+	}
+
+	@Test
+	void testOtherUsersWorldIsNotFound() throws Exception {
+		authorization = api.registerNewUser();
+
+		mockMvc.perform(get("/api/worlds/" + worldId + "/dashboard").header("Authorization", authorization))
+				.andExpect(status().isNotFound());
+	}
+}
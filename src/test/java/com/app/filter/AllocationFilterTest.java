@@ -0,0 +1,94 @@
+package com.app.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.sun.management.ThreadMXBean;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Tests for per-request allocation accounting and the warn threshold.
+ */
+class AllocationFilterTest {
+
+	private static final int ALLOCATED_BYTES = 1024 * 1024;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean bean
+				&& bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled(),
+				"JVM cannot measure per-thread allocation");
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	void testAllocationIsRecordedPerEndpoint() throws Exception {
+		AllocationFilter filter = new AllocationFilter(meterRegistry, true, Long.MAX_VALUE);
+
+		execute(filter);
+
+		DistributionSummary summary = meterRegistry.find("http.request.allocated")
+				.tags("method", "GET", "uri", "/api/worlds/{id}")
+				.summary();
+		assertEquals(1, summary.count());
+		assertTrue(summary.totalAmount() >= ALLOCATED_BYTES, "recorded " + summary.totalAmount());
+		assertNull(meterRegistry.find("http.request.allocation.exceeded").counter());
+	}
+
+	@Test
+	void testRequestAboveLimitIsCounted() throws Exception {
+		AllocationFilter filter = new AllocationFilter(meterRegistry, true, ALLOCATED_BYTES / 2);
+
+		execute(filter);
+		execute(filter);
+
+		Counter exceeded = meterRegistry.find("http.request.allocation.exceeded")
+				.tags("method", "GET", "uri", "/api/worlds/{id}")
+				.counter();
+		assertEquals(2, exceeded.count());
+	}
+
+	@Test
+	void testDisabledFilterRecordsNothing() throws Exception {
+		AllocationFilter filter = new AllocationFilter(meterRegistry, false, 0);
+
+		execute(filter);
+
+		assertTrue(meterRegistry.getMeters().isEmpty());
+	}
+
+	private static void execute(AllocationFilter filter) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/worlds/1");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/worlds/{id}");
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new AllocatingServlet()));
+	}
+
+	private static final class AllocatingServlet extends HttpServlet {
+
+		@Override
+		protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+			// The mock response keeps the body, so the allocation cannot be optimized away
+			response.getOutputStream().write(new byte[ALLOCATED_BYTES]);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.app.health;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.app.filter.LoadSheddingFilter;
+
+/**
+ * Tests for the pool wait average and the load-shedding filter.
+ */
+class LoadSheddingTest {
+
+	@Test
+	void testAverageWaitDecaysWithoutTraffic() throws Exception {
+		PoolWaitTracker tracker = new PoolWaitTracker(20);
+		for (int i = 0; i < 50; i++) {
+			tracker.recordWait(TimeUnit.MILLISECONDS.toNanos(500));
+		}
+		assertTrue(tracker.averageWaitMillis() > 400);
+
+		Thread.sleep(200);
+
+		assertTrue(tracker.averageWaitMillis() < 1);
+	}
+
+	@Test
+	void testNonCriticalRequestIsShedWhilePoolIsSaturated() throws Exception {
+		PoolWaitTracker tracker = new PoolWaitTracker(60000);
+		LoadSheddingFilter filter = new LoadSheddingFilter(tracker, true, 250, List.of("/api/health/**", "/api/login"),
+				2);
+		for (int i = 0; i < 50; i++) {
+			tracker.recordWait(TimeUnit.SECONDS.toNanos(1));
+		}
+
+		MockHttpServletResponse shed = execute(filter, "/api/worlds");
+		MockHttpServletResponse health = execute(filter, "/api/health/ready");
+		MockHttpServletResponse login = execute(filter, "/api/login");
+
+		assertEquals(503, shed.getStatus());
+		assertEquals("2", shed.getHeader("Retry-After"));
+		assertEquals(200, health.getStatus());
+		assertEquals(200, login.getStatus());
+	}
+
+	@Test
+	void testRequestsPassWhilePoolIsHealthy() throws Exception {
+		PoolWaitTracker tracker = new PoolWaitTracker(60000);
+		LoadSheddingFilter filter = new LoadSheddingFilter(tracker, true, 250, List.of("/api/health/**"), 2);
+		tracker.recordWait(TimeUnit.MILLISECONDS.toNanos(5));
+
+		assertEquals(200, execute(filter, "/api/worlds").getStatus());
+	}
+
+	private MockHttpServletResponse execute(LoadSheddingFilter filter, String path) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+}
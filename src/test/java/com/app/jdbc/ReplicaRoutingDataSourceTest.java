@@ -0,0 +1,148 @@
+package com.app.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.jdbc.ReplicaRoutingDataSource.Selection;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Tests for read-only routing, fallback, read-your-writes and explicit
+ * credentials, using one H2 database per role that reports its own name.
+ */
+class ReplicaRoutingDataSourceTest {
+
+	private HikariDataSource primary;
+	private HikariDataSource replica;
+	private HikariDataSource brokenReplica;
+	private TransactionTemplate readWrite;
+	private TransactionTemplate readOnly;
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		primary = database("primary");
+		replica = database("replica");
+		brokenReplica = new HikariDataSource();
+		brokenReplica.setJdbcUrl("jdbc:h2:mem:missing;IFEXISTS=TRUE");
+		brokenReplica.setConnectionTimeout(250);
+		brokenReplica.setInitializationFailTimeout(-1);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		primary.close();
+		replica.close();
+		brokenReplica.close();
+	}
+
+	@Test
+	void testReadOnlyTransactionsUseReplica() {
+		use(new ReplicaRoutingDataSource(primary, List.of(replica), Selection.ROUND_ROBIN, 5000, 30000));
+
+		assertEquals("replica", readOnly.execute(status -> role()));
+		assertEquals("primary", readWrite.execute(status -> role()));
+		assertEquals("primary", role());
+	}
+
+	@Test
+	void testUnhealthyReplicaFallsBackToPrimary() {
+		use(new ReplicaRoutingDataSource(primary, List.of(brokenReplica), Selection.LEAST_PENDING, 5000, 30000));
+
+		assertEquals("primary", readOnly.execute(status -> role()));
+		assertEquals("primary", readOnly.execute(status -> role()));
+	}
+
+	@Test
+	void testWriterReadsFromPrimaryDuringWindow() {
+		use(new ReplicaRoutingDataSource(primary, List.of(replica), Selection.ROUND_ROBIN, 60000, 30000));
+		authenticate("writer@example.com");
+
+		readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET role = role"));
+		assertEquals("primary", readOnly.execute(status -> role()));
+
+		authenticate("reader@example.com");
+		assertEquals("replica", readOnly.execute(status -> role()));
+	}
+
+	@Test
+	void testLoadInsideWriteTransactionUsesPrimary() {
+		use(new ReplicaRoutingDataSource(primary, List.of(replica), Selection.ROUND_ROBIN, 5000, 30000));
+
+		// A service's @Transactional update around a repository's read-only findById
+		String loadedFrom = readWrite.execute(status -> {
+			String role = readOnly.execute(inner -> role());
+			jdbcTemplate.update("UPDATE node SET role = role");
+			return role;
+		});
+
+		assertEquals("primary", loadedFrom);
+	}
+
+	@Test
+	void testConnectionWithPoolCredentialsIsRouted() throws SQLException {
+		primary.setUsername("sa");
+		primary.setPassword("");
+		replica.setUsername("sa");
+		replica.setPassword("");
+		ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica),
+				Selection.ROUND_ROBIN, 5000, 30000);
+		use(routing);
+
+		assertEquals("replica", readOnly.execute(status -> {
+			try (Connection connection = routing.getConnection("sa", "")) {
+				return new JdbcTemplate(new SingleConnectionDataSource(connection, true))
+						.queryForObject("SELECT role FROM node", String.class);
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		}));
+		assertThrows(SQLException.class, () -> routing.getConnection("other", "secret"));
+	}
+
+	private void use(ReplicaRoutingDataSource routing) {
+		DataSource dataSource = routing.lazy();
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		readWrite = new TransactionTemplate(transactionManager);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+	}
+
+	private String role() {
+		return jdbcTemplate.queryForObject("SELECT role FROM node", String.class);
+	}
+
+	private static void authenticate(String email) {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(email, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+	}
+
+	private static HikariDataSource database(String role) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setJdbcUrl("jdbc:h2:mem:routing_" + role + ";DB_CLOSE_DELAY=-1");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (role VARCHAR(16))");
+		jdbcTemplate.execute("DELETE FROM node");
+		jdbcTemplate.update("INSERT INTO node VALUES (?)", role);
+		return dataSource;
+	}
+}
@@ -0,0 +1,50 @@
+package com.app.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.app.dto.admin.SlowQueryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for the slow-query ring buffer and plan inspection.
+ */
+class SlowQueryLogTest {
+
+	private static final String PLAN = """
+			[{"Plan": {"Node Type": "Nested Loop", "Plans": [
+			  {"Node Type": "Seq Scan", "Relation Name": "figures"},
+			  {"Node Type": "Index Scan", "Relation Name": "worlds", "Index Name": "worlds_pkey"}
+			]}}]""";
+
+	@Test
+	void testRingBufferKeepsNewestEntries() {
+		SlowQueryLog log = new SlowQueryLog(true, 100, 3, 1, 4, false);
+		for (int i = 1; i <= 5; i++) {
+			log.record("select " + i, "select " + i, List.of(), 100 + i);
+		}
+
+		List<SlowQueryResponse> recent = log.recent(10, false);
+
+		assertEquals(List.of(105L, 104L, 103L), recent.stream().map(SlowQueryResponse::getElapsedMillis).toList());
+	}
+
+	@Test
+	void testThreshold() {
+		SlowQueryLog log = new SlowQueryLog(true, 100, 3, 1, 4, false);
+
+		assertFalse(log.isSlow(99));
+		assertTrue(log.isSlow(100));
+		assertFalse(new SlowQueryLog(false, 100, 3, 1, 4, false).isSlow(1000));
+	}
+
+	@Test
+	void testSequentialScansAreFoundInNestedPlans() throws Exception {
+		assertEquals(List.of("figures"), SlowQueryLog.sequentialScans(new ObjectMapper().readTree(PLAN)));
+	}
+}
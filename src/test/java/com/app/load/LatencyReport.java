@@ -0,0 +1,102 @@
+package com.app.load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Per-endpoint latency histograms (HdrHistogram, microsecond resolution, 3
+ * significant digits) and error counts, recorded by all virtual users.
+ */
+class LatencyReport {
+
+	private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+	private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+	private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+	private final Histogram total = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+	private final LongAdder totalErrors = new LongAdder();
+
+	void record(String endpoint, long micros, boolean error) {
+		long value = Math.min(Math.max(1, micros), MAX_TRACKABLE_MICROS);
+		Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+		stats.histogram.recordValue(value);
+		total.recordValue(value);
+		if (error) {
+			stats.errors.increment();
+			totalErrors.increment();
+		}
+	}
+
+	void print(double seconds) {
+		System.out.printf(Locale.ROOT, "%n%-52s %9s %7s %9s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors",
+				"req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+		for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+			printRow(entry.getKey(), entry.getValue().histogram, entry.getValue().errors.sum(), seconds);
+		}
+		printRow("TOTAL", total, totalErrors.sum(), seconds);
+	}
+
+	void writeJson(Path file, Map<String, Object> settings, double seconds) throws IOException {
+		List<Map<String, Object>> rows = new ArrayList<>();
+		for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+			rows.add(row(entry.getKey(), entry.getValue().histogram, entry.getValue().errors.sum(), seconds));
+		}
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("settings", settings);
+		report.put("measuredSeconds", seconds);
+		report.put("endpoints", rows);
+		report.put("total", row("TOTAL", total, totalErrors.sum(), seconds));
+		if (file.getParent() != null) {
+			Files.createDirectories(file.getParent());
+		}
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+	}
+
+	private static void printRow(String name, Histogram histogram, long errors, double seconds) {
+		System.out.printf(Locale.ROOT, "%-52s %9d %7d %9.1f", name, histogram.getTotalCount(), errors,
+				histogram.getTotalCount() / seconds);
+		for (double percentile : PERCENTILES) {
+			System.out.printf(Locale.ROOT, " %9.2f", millis(histogram.getValueAtPercentile(percentile)));
+		}
+		System.out.printf(Locale.ROOT, " %9.2f%n", millis(histogram.getMaxValue()));
+	}
+
+	private static Map<String, Object> row(String name, Histogram histogram, long errors, double seconds) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		row.put("endpoint", name);
+		row.put("requests", histogram.getTotalCount());
+		row.put("errors", errors);
+		row.put("throughputPerSecond", histogram.getTotalCount() / seconds);
+		for (double percentile : PERCENTILES) {
+			row.put("p" + String.valueOf(percentile).replace(".0", "").replace('.', '_') + "Ms",
+					millis(histogram.getValueAtPercentile(percentile)));
+		}
+		row.put("maxMs", millis(histogram.getMaxValue()));
+		return row;
+	}
+
+	private static double millis(long micros) {
+		return micros / 1000.0;
+	}
+
+	private static final class Endpoint {
+		private final Histogram histogram = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+		private final LongAdder errors = new LongAdder();
+	}
+}
@@ -0,0 +1,240 @@
+package com.app.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.app.Application;
+import com.app.config.JdbcConnectionSettings;
+import com.app.support.LargeWorldGenerator;
+
+/**
+ * Self-contained HTTP load test.
+ *
+ * 1. Seeds the database with LargeWorldGenerator: one user with one world per
+ * virtual user.
+ * 2. Boots the application in-process on a random localhost port.
+ * 3. Runs the scenarios with --vus virtual users (assigned round-robin), each a
+ * thread sending one request at a time: a warm-up phase, then the measured
+ * phase.
+ * 4. Prints throughput and HdrHistogram latency percentiles per endpoint and
+ * writes them as JSON (--report) for comparison between commits.
+ *
+ * Database: --url (DATABASE_URL or JDBC format) for a local PostgreSQL, which
+ * must have the schema (--create-schema applies db/schema.sql). Without --url
+ * an in-memory H2 database in PostgreSQL mode is used: convenient, but not
+ * representative of PostgreSQL query plans.
+ *
+ * Latency is measured closed-loop (a slow response delays that user's next
+ * request), so the percentiles understate queueing under overload.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.app.load.LoadHarness
+ * -Dexec.args="--scenarios=timeline,search --vus=32 --duration-seconds=60"
+ *
+ * The lists and reactive-lists scenarios compare the blocking and the
+ * reactive (R2DBC) read path for the same full lists; the reactive path is
+ * enabled automatically when one of its scenarios runs.
+ *
+ * Options: --scenarios (login-burst, timeline, search, links, lists,
+ * reactive-lists; default login-burst, timeline, search, links),
+ * --vus (16), --warmup-seconds (10), --duration-seconds (30), --think-time-ms
+ * (0), --events-per-world (2000), --figures-per-world (200), --seed (42),
+ * --report (target/load-report.json), --url, --create-schema, and any
+ * --spring.property=value passed through to the application.
+ */
+public class LoadHarness {
+
+	private static final String JWT_SECRET = "load-test-secret-key-for-jwt-service-must-be-at-least-32-characters";
+	private static final String H2_URL = "jdbc:h2:mem:load;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+			+ "NON_KEYWORDS=YEAR,VALUE";
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = new LinkedHashMap<>();
+		List<String> applicationArgs = new ArrayList<>();
+		for (String arg : args) {
+			if (arg.startsWith("--spring.") || arg.startsWith("--management.")) {
+				applicationArgs.add(arg);
+				continue;
+			}
+			int eq = arg.indexOf('=');
+			options.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+		}
+
+		List<Scenario> scenarios = Arrays.stream(options.getOrDefault("scenarios", "login-burst,timeline,search,links")
+				.split(",")).map(Scenario::fromId).toList();
+		int vus = Integer.parseInt(options.getOrDefault("vus", "16"));
+		int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "10"));
+		int durationSeconds = Integer.parseInt(options.getOrDefault("duration-seconds", "30"));
+		long thinkTimeMillis = Long.parseLong(options.getOrDefault("think-time-ms", "0"));
+		long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+		Path reportFile = Path.of(options.getOrDefault("report", "target/load-report.json"));
+
+		JdbcConnectionSettings database = options.containsKey("url")
+				? JdbcConnectionSettings.fromDatabaseUrl(options.get("url"))
+				: new JdbcConnectionSettings(H2_URL, "sa", "", "org.h2.Driver");
+
+		LargeWorldGenerator.Settings data = new LargeWorldGenerator.Settings();
+		data.users = vus;
+		data.worldsPerUser = 1;
+		data.eventsPerWorld = Integer.parseInt(options.getOrDefault("events-per-world", "2000"));
+		data.figuresPerWorld = Integer.parseInt(options.getOrDefault("figures-per-world", "200"));
+		data.seed = seed;
+		data.createSchema = !options.containsKey("url") || options.containsKey("create-schema");
+
+		List<long[]> worlds;
+		List<String> emails = new ArrayList<>();
+		try (Connection connection = DriverManager.getConnection(database.getUrl(), database.getUsername(),
+				database.getPassword())) {
+			long lastUserId = lastUserId(connection);
+			System.out.println("Seeding: " + new LargeWorldGenerator(connection, data).generate());
+			worlds = seededWorlds(connection, lastUserId, emails);
+		}
+
+		applicationArgs.addAll(List.of("--server.port=0",
+				"--spring.datasource.url=" + database.getUrl(),
+				"--spring.datasource.username=" + database.getUsername(),
+				"--spring.datasource.password=" + database.getPassword(),
+				"--JWT_SECRET=" + JWT_SECRET,
+				"--logging.level.com.app=WARN"));
+		if (!options.containsKey("url")) {
+			applicationArgs.addAll(List.of("--spring.datasource.driver-class-name=org.h2.Driver",
+					"--spring.jpa.database-platform=", "--spring.jpa.hibernate.ddl-auto=none"));
+		}
+		if (scenarios.contains(Scenario.REACTIVE_LISTS)) {
+			applicationArgs.add("--reactive.enabled=true");
+			if (!options.containsKey("url")) {
+				applicationArgs.add("--reactive.r2dbc.url=r2dbc:h2:mem:///" + H2_URL.substring("jdbc:h2:mem:".length()));
+			}
+		}
+
+		try (ConfigurableApplicationContext context = SpringApplication.run(Application.class,
+				applicationArgs.toArray(String[]::new))) {
+			String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+			LatencyReport report = new LatencyReport();
+			HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+			List<VirtualUser> users = new ArrayList<>();
+			for (int i = 0; i < worlds.size(); i++) {
+				long[] world = worlds.get(i);
+				VirtualUser user = new VirtualUser(client, baseUrl, report, seed + i, emails.get(i),
+						LargeWorldGenerator.PASSWORD, world[0], world[1], world[2], world[3], world[4]);
+				user.login();
+				users.add(user);
+			}
+
+			System.out.printf("Running %s with %d virtual users: %ds warm-up, %ds measured%n", scenarios, vus,
+					warmupSeconds, durationSeconds);
+			double measuredSeconds = run(users, scenarios, thinkTimeMillis, warmupSeconds, durationSeconds);
+			report.print(measuredSeconds);
+
+			Map<String, Object> settings = new LinkedHashMap<>();
+			settings.put("scenarios", scenarios.stream().map(Scenario::getId).toList());
+			settings.put("vus", vus);
+			settings.put("thinkTimeMillis", thinkTimeMillis);
+			settings.put("eventsPerWorld", data.eventsPerWorld);
+			settings.put("figuresPerWorld", data.figuresPerWorld);
+			settings.put("seed", seed);
+			settings.put("database", options.containsKey("url") ? "postgresql" : "h2");
+			report.writeJson(reportFile, settings, measuredSeconds);
+			System.out.println("Report written to " + reportFile.toAbsolutePath());
+		}
+	}
+
+	/**
+	 * Runs every user on its own thread until the end of the measured phase.
+	 *
+	 * @return the measured duration in seconds
+	 */
+	private static double run(List<VirtualUser> users, List<Scenario> scenarios, long thinkTimeMillis,
+			int warmupSeconds, int durationSeconds) throws InterruptedException {
+		long measureFrom = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+		long stopAt = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+		AtomicLong failures = new AtomicLong();
+		CountDownLatch done = new CountDownLatch(users.size());
+
+		for (int i = 0; i < users.size(); i++) {
+			VirtualUser user = users.get(i);
+			Scenario scenario = scenarios.get(i % scenarios.size());
+			Thread thread = new Thread(() -> {
+				try {
+					while (System.nanoTime() < stopAt) {
+						if (System.nanoTime() >= measureFrom) {
+							user.startMeasuring();
+						}
+						try {
+							scenario.iterate(user, thinkTimeMillis);
+						} catch (IOException e) {
+							failures.incrementAndGet();
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			}, "vu-" + i + "-" + scenario.getId());
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		done.await();
+		if (failures.get() > 0) {
+			System.out.println(failures.get() + " scenario iterations failed with I/O errors");
+		}
+		return durationSeconds;
+	}
+
+	private static long lastUserId(Connection connection) {
+		try (Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM users")) {
+			resultSet.next();
+			return resultSet.getLong(1);
+		} catch (SQLException e) {
+			// No schema yet (--create-schema)
+			return 0;
+		}
+	}
+
+	/**
+	 * World id and event/figure id ranges of the worlds of users created after
+	 * lastUserId (the generator writes contiguous ids per world).
+	 */
+	private static List<long[]> seededWorlds(Connection connection, long lastUserId, List<String> emails)
+			throws SQLException {
+		List<long[]> worlds = new ArrayList<>();
+		try (PreparedStatement statement = connection.prepareStatement("SELECT u.email, w.id, "
+				+ "(SELECT MIN(id) FROM events WHERE world_id = w.id), "
+				+ "(SELECT MAX(id) FROM events WHERE world_id = w.id), "
+				+ "(SELECT MIN(id) FROM figures WHERE world_id = w.id), "
+				+ "(SELECT MAX(id) FROM figures WHERE world_id = w.id) "
+				+ "FROM users u JOIN worlds w ON w.user_id = u.id WHERE u.id > ? ORDER BY u.id")) {
+			statement.setLong(1, lastUserId);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				while (resultSet.next()) {
+					emails.add(resultSet.getString(1));
+					worlds.add(new long[] { resultSet.getLong(2), resultSet.getLong(3), resultSet.getLong(4),
+							resultSet.getLong(5), resultSet.getLong(6) });
+				}
+			}
+		}
+		return worlds;
+	}
+}
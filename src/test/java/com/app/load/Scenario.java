@@ -0,0 +1,113 @@
+package com.app.load;
+
+import java.io.IOException;
+
+/**
+ * User behaviors the harness can drive. Each call of iterate() is one pass
+ * through the scenario; virtual users repeat it until the run ends.
+ */
+enum Scenario {
+
+	/** Repeated logins (BCrypt verification, token generation). */
+	LOGIN_BURST("login-burst") {
+		@Override
+		void iterate(VirtualUser user, long thinkTimeMillis) throws IOException, InterruptedException {
+			user.login();
+		}
+	},
+
+	/** Opening a world: world list, timeline, a page of figures, a few events. */
+	TIMELINE("timeline") {
+		@Override
+		void iterate(VirtualUser user, long thinkTimeMillis) throws IOException, InterruptedException {
+			user.get("GET /api/worlds", "/api/worlds");
+			user.get("GET /api/events?worldId", "/api/events?worldId=" + user.worldId);
+			pause(thinkTimeMillis);
+			int pages = (int) Math.max(1, (user.lastFigureId - user.firstFigureId + 1) / 20);
+			user.get("GET /api/figures?worldId&page&limit",
+					"/api/figures?worldId=" + user.worldId + "&page=" + user.random.nextInt(pages) + "&limit=20");
+			for (int i = 0; i < 3; i++) {
+				pause(thinkTimeMillis);
+				user.get("GET /api/events/{id}", "/api/events/" + user.randomEventId());
+			}
+		}
+	},
+
+	/** Search-as-you-type: one request per typed character of a search term. */
+	SEARCH("search") {
+		private final String[] terms = { "ancient", "silver", "forgotten", "alliance", "harbor", "crimson" };
+
+		@Override
+		void iterate(VirtualUser user, long thinkTimeMillis) throws IOException, InterruptedException {
+			String term = terms[user.random.nextInt(terms.length)];
+			for (int length = 1; length <= term.length(); length++) {
+				user.get("GET /api/figures?worldId&search&page&limit", "/api/figures?worldId=" + user.worldId
+						+ "&search=" + VirtualUser.encode(term.substring(0, length)) + "&page=0&limit=20");
+				pause(thinkTimeMillis);
+			}
+		}
+	},
+
+	/** Full, unpaginated timeline and figure list (the largest responses). */
+	LISTS("lists") {
+		@Override
+		void iterate(VirtualUser user, long thinkTimeMillis) throws IOException, InterruptedException {
+			user.get("GET /api/events?worldId", "/api/events?worldId=" + user.worldId);
+			pause(thinkTimeMillis);
+			user.get("GET /api/figures?worldId", "/api/figures?worldId=" + user.worldId);
+			pause(thinkTimeMillis);
+		}
+	},
+
+	/** LISTS on the reactive read path (R2DBC, streamed). */
+	REACTIVE_LISTS("reactive-lists") {
+		@Override
+		void iterate(VirtualUser user, long thinkTimeMillis) throws IOException, InterruptedException {
+			user.get("GET /api/reactive/events?worldId", "/api/reactive/events?worldId=" + user.worldId);
+			pause(thinkTimeMillis);
+			user.get("GET /api/reactive/figures?worldId", "/api/reactive/figures?worldId=" + user.worldId);
+			pause(thinkTimeMillis);
+		}
+	},
+
+	/** Rapid linking and unlinking of figures and events (writes, cache invalidation). */
+	LINKS("links") {
+		@Override
+		void iterate(VirtualUser user, long thinkTimeMillis) throws IOException, InterruptedException {
+			long figureId = user.randomFigureId();
+			long eventId = user.randomEventId();
+			user.post("POST /api/figures/{figureId}/events/{eventId}",
+					"/api/figures/" + figureId + "/events/" + eventId);
+			pause(thinkTimeMillis);
+			user.delete("DELETE /api/figures/{figureId}/events/{eventId}",
+					"/api/figures/" + figureId + "/events/" + eventId);
+		}
+	};
+
+	private final String id;
+
+	Scenario(String id) {
+		this.id = id;
+	}
+
+	String getId() {
+		return id;
+	}
+
+	abstract void iterate(VirtualUser user, long thinkTimeMillis) throws IOException, InterruptedException;
+
+	static Scenario fromId(String id) {
+		for (Scenario scenario : values()) {
+			if (scenario.id.equals(id.trim())) {
+				return scenario;
+			}
+		}
+		throw new IllegalArgumentException("Unknown scenario: " + id);
+	}
+
+	private static void pause(long millis) throws InterruptedException {
+		if (millis > 0) {
+			Thread.sleep(millis);
+		}
+	}
+}
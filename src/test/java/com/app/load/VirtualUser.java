@@ -0,0 +1,126 @@
+package com.app.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * One simulated user: owns one seeded world and sends requests on its own
+ * thread, one at a time (closed loop).
+ */
+class VirtualUser {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	final String email;
+	final String password;
+	final long worldId;
+	final long firstEventId;
+	final long lastEventId;
+	final long firstFigureId;
+	final long lastFigureId;
+	final Random random;
+
+	private final HttpClient client;
+	private final String baseUrl;
+	private final LatencyReport report;
+	private volatile boolean measuring;
+	private String token;
+
+	VirtualUser(HttpClient client, String baseUrl, LatencyReport report, long seed, String email, String password,
+			long worldId, long firstEventId, long lastEventId, long firstFigureId, long lastFigureId) {
+		this.client = client;
+		this.baseUrl = baseUrl;
+		this.report = report;
+		this.random = new Random(seed);
+		this.email = email;
+		this.password = password;
+		this.worldId = worldId;
+		this.firstEventId = firstEventId;
+		this.lastEventId = lastEventId;
+		this.firstFigureId = firstFigureId;
+		this.lastFigureId = lastFigureId;
+	}
+
+	void startMeasuring() {
+		measuring = true;
+	}
+
+	/**
+	 * Logs in and keeps the token for later requests.
+	 */
+	void login() throws IOException, InterruptedException {
+		String body = OBJECT_MAPPER.writeValueAsString(Map.of("email", email, "password", password));
+		HttpResponse<String> response = send("POST /api/login", "POST", "/api/login", body, false);
+		if (response.statusCode() == 200) {
+			token = OBJECT_MAPPER.readTree(response.body()).get("token").asText();
+		}
+	}
+
+	HttpResponse<String> get(String endpoint, String path) throws IOException, InterruptedException {
+		return send(endpoint, "GET", path, null, true);
+	}
+
+	HttpResponse<String> post(String endpoint, String path) throws IOException, InterruptedException {
+		return send(endpoint, "POST", path, null, true);
+	}
+
+	HttpResponse<String> delete(String endpoint, String path) throws IOException, InterruptedException {
+		return send(endpoint, "DELETE", path, null, true);
+	}
+
+	long randomEventId() {
+		return firstEventId + (long) (random.nextDouble() * (lastEventId - firstEventId + 1));
+	}
+
+	long randomFigureId() {
+		return firstFigureId + (long) (random.nextDouble() * (lastFigureId - firstFigureId + 1));
+	}
+
+	static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Sends a request and records its latency under the endpoint name once
+	 * measuring has started. Non-2xx responses and I/O failures count as errors.
+	 */
+	private HttpResponse<String> send(String endpoint, String method, String path, String body,
+			boolean authenticated) throws IOException, InterruptedException {
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+				.timeout(Duration.ofSeconds(30))
+				.method(method, body != null ? HttpRequest.BodyPublishers.ofString(body)
+						: HttpRequest.BodyPublishers.noBody());
+		if (body != null) {
+			request.header("Content-Type", "application/json");
+		}
+		if (authenticated && token != null) {
+			request.header("Authorization", "Bearer " + token);
+		}
+
+		long start = System.nanoTime();
+		try {
+			HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+			record(endpoint, start, response.statusCode() >= 300);
+			return response;
+		} catch (IOException e) {
+			record(endpoint, start, true);
+			throw e;
+		}
+	}
+
+	private void record(String endpoint, long start, boolean error) {
+		if (measuring) {
+			report.record(endpoint, (System.nanoTime() - start) / 1000, error);
+		}
+	}
+}
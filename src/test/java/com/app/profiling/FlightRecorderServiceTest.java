@@ -0,0 +1,67 @@
+package com.app.profiling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.app.dto.admin.RecordingResponse;
+import com.app.exception.InvalidRecordingException;
+import com.app.exception.RecordingConflictException;
+
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Tests for the single-recording guard and the recording lifecycle.
+ */
+class FlightRecorderServiceTest {
+
+	private final FlightRecorderService service = new FlightRecorderService(60);
+
+	@AfterEach
+	void tearDown() {
+		service.discard();
+	}
+
+	@Test
+	void testSecondRecordingIsRefusedWhileRunning() {
+		RecordingResponse started = service.start("default", 60);
+
+		assertEquals("RUNNING", started.getState());
+		assertThrows(RecordingConflictException.class, () -> service.start("default", 60));
+		assertThrows(RecordingConflictException.class, () -> service.finishedFile(started.getId()));
+	}
+
+	@Test
+	void testStoppedRecordingCanBeDownloaded() throws Exception {
+		RecordingResponse started = service.start("default", 60);
+		new AuthenticationEvent().commit();
+
+		RecordingResponse stopped = service.stop();
+		Path file = service.finishedFile(started.getId()).orElseThrow();
+
+		assertEquals("STOPPED", stopped.getState());
+		assertTrue(Files.size(file) > 0);
+		assertTrue(service.finishedFile(started.getId() + 1).isEmpty());
+	}
+
+	@Test
+	void testStreamingRecordingDoesNotBlockStart() {
+		try (RecordingStream stream = new RecordingStream()) {
+			stream.startAsync();
+
+			assertEquals("RUNNING", service.start("default", 60).getState());
+		}
+	}
+
+	@Test
+	void testInvalidRequestsAreRejected() {
+		assertThrows(InvalidRecordingException.class, () -> service.start("custom", 60));
+		assertThrows(InvalidRecordingException.class, () -> service.start("default", 61));
+	}
+}
@@ -0,0 +1,84 @@
+package com.app.support;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Calls the REST API through MockMvc as one registered user, for setting up
+ * test data. Every call expects a successful status, so a failed setup step
+ * fails right there instead of as a NullPointerException later.
+ *
+ * Usage (in an {@link ApiTest}):
+ * api = new ApiClient(mockMvc, objectMapper);
+ * api.registerNewUser();
+ * long worldId = api.createWorld("W");
+ * mockMvc.perform(get("/api/worlds").header("Authorization", api.getAuthorization()))
+ */
+public class ApiClient {
+
+	private final MockMvc mockMvc;
+	private final ObjectMapper objectMapper;
+	private String authorization;
+
+	public ApiClient(MockMvc mockMvc, ObjectMapper objectMapper) {
+		this.mockMvc = mockMvc;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Registers a new user and sends its token with every following call.
+	 *
+	 * @return The Authorization header value
+	 */
+	public String registerNewUser() throws Exception {
+		authorization = null;
+		String email = "user" + System.nanoTime() + "@example.com";
+		authorization = "Bearer " + postJson("/api/register",
+				"{\"email\":\"" + email + "\",\"password\":\"password123\"}").get("token").asText();
+		return authorization;
+	}
+
+	public String getAuthorization() {
+		return authorization;
+	}
+
+	public long createWorld(String name) throws Exception {
+		return postJson("/api/worlds", "{\"name\":\"" + name + "\",\"startYear\":0,\"currentYear\":100,"
+				+ "\"description\":\"d\"}").get("id").asLong();
+	}
+
+	public void linkFigure(long figureId, long eventId) throws Exception {
+		postJson("/api/figures/" + figureId + "/events/" + eventId, "");
+	}
+
+	/**
+	 * @return The response body, or null if it is empty
+	 */
+	public JsonNode postJson(String path, String body) throws Exception {
+		MockHttpServletRequestBuilder request = post(path).contentType(MediaType.APPLICATION_JSON).content(body);
+		if (authorization != null) {
+			request.header("Authorization", authorization);
+		}
+		MvcResult result = mockMvc.perform(request)
+				.andExpect(status().is2xxSuccessful())
+				.andReturn();
+		String content = result.getResponse().getContentAsString();
+		return content.isEmpty() ? null : objectMapper.readTree(content);
+	}
+
+	public JsonNode getJson(String path) throws Exception {
+		MvcResult result = mockMvc.perform(get(path).header("Authorization", authorization))
+				.andExpect(status().isOk())
+				.andReturn();
+		return objectMapper.readTree(result.getResponse().getContentAsString());
+	}
+}
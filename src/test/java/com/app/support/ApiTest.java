@@ -0,0 +1,43 @@
+package com.app.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * The application context shared by the MockMvc controller tests, against an
+ * in-memory H2 database. Use it together with {@link ApiClient}.
+ *
+ * Every test class with exactly this configuration reuses one cached context,
+ * so it also switches on what individual tests need (the reactive read path,
+ * small batch and GraphQL depth limits). Tests share the database and keep
+ * apart by registering their own users.
+ *
+ * A test that adds properties of its own gets a context of its own; it should
+ * then also use a database of its own (spring.datasource.url).
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+		"JWT_SECRET=test-secret-key-for-jwt-service-testing-must-be-at-least-32-characters-long-for-hmac-sha256",
+		"spring.datasource.url=jdbc:h2:mem:api;DB_CLOSE_DELAY=-1;NON_KEYWORDS=YEAR,VALUE",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.database-platform=",
+		"reactive.enabled=true",
+		"reactive.r2dbc.url=r2dbc:h2:mem:///api;DB_CLOSE_DELAY=-1;NON_KEYWORDS=YEAR,VALUE",
+		"reactive.chunk-size=2",
+		"batch.max-operations=5",
+		"graphql.max-depth=4"
+})
+public @interface ApiTest {
+}
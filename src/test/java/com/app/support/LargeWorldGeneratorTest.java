@@ -0,0 +1,80 @@
+package com.app.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the synthetic data generator against the real schema (H2 in
+ * PostgreSQL mode).
+ */
+class LargeWorldGeneratorTest {
+
+	@Test
+	void testGeneratesRequestedRowsAndKeepsSequencesUsable() throws Exception {
+		LargeWorldGenerator.Settings settings = settings();
+		try (Connection connection = connect("generator")) {
+			LargeWorldGenerator.Result result = new LargeWorldGenerator(connection, settings).generate();
+
+			assertEquals(2, count(connection, "SELECT COUNT(*) FROM users"));
+			assertEquals(6, count(connection, "SELECT COUNT(*) FROM worlds"));
+			assertEquals(6 * 250, count(connection, "SELECT COUNT(*) FROM events"));
+			assertEquals(6 * 40, count(connection, "SELECT COUNT(*) FROM figures"));
+			assertEquals(result.links, count(connection, "SELECT COUNT(*) FROM figure_events"));
+			assertEquals(0, count(connection, "SELECT COUNT(*) FROM figure_events fe JOIN figures f ON f.id = "
+					+ "fe.figure_id JOIN events e ON e.id = fe.event_id WHERE e.world_id <> f.world_id"));
+			assertEquals(0, count(connection, "SELECT COUNT(*) FROM events e JOIN worlds w ON w.id = e.world_id "
+					+ "WHERE e.year < w.start_year OR e.year > w.current_year"));
+
+			// A second run appends, and the sequences continue after the generated ids
+			new LargeWorldGenerator(connection, settings).generate();
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("INSERT INTO users (email, password_hash) VALUES ('new@example.test', 'x')");
+			}
+			assertEquals(5, count(connection, "SELECT MAX(id) FROM users"));
+		}
+	}
+
+	@Test
+	void testSameSeedProducesSameData() throws Exception {
+		String checksum = "SELECT SUM(e.year * 7 + LENGTH(e.importance)) FROM events e";
+		try (Connection first = connect("seed_a"); Connection second = connect("seed_b")) {
+			new LargeWorldGenerator(first, settings()).generate();
+			new LargeWorldGenerator(second, settings()).generate();
+
+			assertEquals(count(first, checksum), count(second, checksum));
+			assertTrue(count(first, checksum) > 0);
+		}
+	}
+
+	private static LargeWorldGenerator.Settings settings() {
+		LargeWorldGenerator.Settings settings = new LargeWorldGenerator.Settings();
+		settings.users = 2;
+		settings.worldsPerUser = 3;
+		settings.eventsPerWorld = 250;
+		settings.figuresPerWorld = 40;
+		settings.linksPerFigure = 4;
+		settings.batchSize = 64;
+		settings.createSchema = true;
+		return settings;
+	}
+
+	private static Connection connect(String name) throws SQLException {
+		return DriverManager.getConnection("jdbc:h2:mem:" + name
+				+ ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR,VALUE");
+	}
+
+	private static long count(Connection connection, String sql) throws SQLException {
+		try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+			resultSet.next();
+			return resultSet.getLong(1);
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.app.support;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Assumptions;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * A PostgreSQL server for tests that need the real planner.
+ *
+ * Uses TEST_POSTGRES_URL when set (a JDBC URL with user and password
+ * parameters, see CacheInvalidationTest), otherwise starts the embedded
+ * PostgreSQL binary from io.zonky.test once per JVM. When neither is possible
+ * (PostgreSQL refuses to run as root, for example) the calling test is
+ * skipped, not failed.
+ *
+ * Every caller gets its own schema, dropped and recreated empty.
+ */
+public final class PostgresDatabase {
+
+	private static EmbeddedPostgres embedded;
+
+	private PostgresDatabase() {
+	}
+
+	/**
+	 * JDBC URL (including credentials) whose current schema is the given,
+	 * freshly created schema.
+	 */
+	public static synchronized String freshSchema(String schema) throws SQLException {
+		String serverUrl = serverUrl();
+		try (Connection connection = DriverManager.getConnection(serverUrl);
+				Statement statement = connection.createStatement()) {
+			statement.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+			statement.execute("CREATE SCHEMA " + schema);
+		}
+		return serverUrl + (serverUrl.contains("?") ? "&" : "?") + "currentSchema=" + schema;
+	}
+
+	private static String serverUrl() {
+		String url = System.getenv("TEST_POSTGRES_URL");
+		if (url != null && !url.isBlank()) {
+			return url;
+		}
+		if (embedded == null) {
+			try {
+				embedded = EmbeddedPostgres.builder().start();
+			} catch (IOException | RuntimeException e) {
+				Assumptions.abort("No PostgreSQL available (set TEST_POSTGRES_URL): " + e.getMessage());
+			}
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				try {
+					embedded.close();
+				} catch (IOException e) {
+					// The JVM is exiting anyway
+				}
+			}, "embedded-postgres-shutdown"));
+		}
+		return embedded.getJdbcUrl("postgres", "postgres");
+	}
+}
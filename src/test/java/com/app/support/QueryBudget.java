@@ -0,0 +1,63 @@
+package com.app.support;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import com.app.jdbc.SqlStatementStats;
+
+/**
+ * MockMvc matchers for per-request SQL budgets.
+ *
+ * Usage:
+ * mockMvc.perform(get("/api/worlds").header(...))
+ * .andExpect(status().isOk())
+ * .andExpect(QueryBudget.statementsAtMost(2))
+ * .andExpect(QueryBudget.noStatementRepeatedMoreThan(1));
+ *
+ * Needs the SqlBudgetFilter in the MockMvc filter chain
+ * (@AutoConfigureMockMvc) and sql-budget.enabled=true.
+ */
+public final class QueryBudget {
+
+	private QueryBudget() {
+	}
+
+	public static SqlStatementStats statsOf(MvcResult result) {
+		SqlStatementStats stats = (SqlStatementStats) result.getRequest()
+				.getAttribute(SqlStatementStats.REQUEST_ATTRIBUTE);
+		assertNotNull(stats, "No SQL statistics recorded; is SqlBudgetFilter enabled?");
+		return stats;
+	}
+
+	public static ResultMatcher statementsAtMost(int max) {
+		return result -> {
+			SqlStatementStats stats = statsOf(result);
+			assertTrue(stats.getStatements() <= max, () -> "Expected at most " + max + " statements for "
+					+ describe(result) + " but got " + stats.getStatements());
+		};
+	}
+
+	public static ResultMatcher noStatementRepeatedMoreThan(int max) {
+		return result -> {
+			SqlStatementStats stats = statsOf(result);
+			assertTrue(stats.getMaxRepetitions() <= max, () -> "Expected no statement more than " + max
+					+ " times for " + describe(result) + " but this ran " + stats.getMaxRepetitions() + " times: "
+					+ stats.getMostRepeatedStatement());
+		};
+	}
+
+	public static ResultMatcher rowsAtMost(long max) {
+		return result -> {
+			SqlStatementStats stats = statsOf(result);
+			assertTrue(stats.getRows() <= max, () -> "Expected at most " + max + " rows for " + describe(result)
+					+ " but got " + stats.getRows());
+		};
+	}
+
+	private static String describe(MvcResult result) {
+		return result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+	}
+}
@@ -0,0 +1,55 @@
+package com.app.timing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.app.timing.RequestTimer.Phase;
+
+/**
+ * Tests for phase timing and the Server-Timing header.
+ */
+class RequestTimerTest {
+
+	@AfterEach
+	void tearDown() {
+		RequestTimer.stop();
+	}
+
+	@Test
+	void testWithoutTimerNothingIsRecorded() {
+		long start = RequestTimer.begin(Phase.MAPPING);
+		RequestTimer.end(Phase.MAPPING, start);
+
+		assertEquals(-1, start);
+	}
+
+	@Test
+	void testNestedPhaseIsCountedOnce() throws InterruptedException {
+		RequestTimer timer = RequestTimer.start(true);
+
+		long outer = RequestTimer.begin(Phase.MAPPING);
+		long inner = RequestTimer.begin(Phase.MAPPING);
+		Thread.sleep(5);
+		RequestTimer.end(Phase.MAPPING, inner);
+		RequestTimer.end(Phase.MAPPING, outer);
+
+		assertEquals(-1, inner);
+		assertTrue(timer.millis(Phase.MAPPING) >= 5);
+		assertTrue(timer.millis(Phase.MAPPING) <= timer.elapsedMillis());
+	}
+
+	@Test
+	void testHeaderListsEveryPhaseAndTotal() {
+		RequestTimer timer = RequestTimer.start(true);
+
+		String header = ServerTiming.header(timer, null);
+
+		for (Phase phase : Phase.values()) {
+			assertTrue(header.contains(phase.getMetricName() + ";dur="), header);
+		}
+		assertTrue(header.matches(".*, total;dur=\\d+\\.\\d$"), header);
+	}
+}